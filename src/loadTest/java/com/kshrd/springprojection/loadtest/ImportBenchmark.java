@@ -0,0 +1,105 @@
+package com.kshrd.springprojection.loadtest;
+
+import java.io.BufferedWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes {@code import.rows} random transactions for accounts 1..{@code import.accountCount}
+ * into the import directory shared with the application, starts an import through the API
+ * and polls it until it finishes. The rate reported by the server covers parsing, validation
+ * and COPY; the run fails when it is below {@code import.minRowsPerSecond}.
+ */
+public final class ImportBenchmark {
+
+    private static final Pattern FIELD = Pattern.compile("\"(\\w+)\"\\s*:\\s*(\"[^\"]*\"|[\\d.]+|null)");
+    private static final String[] TYPES = {"DEPOSIT", "WITHDRAWAL"};
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("import.baseUrl", "http://localhost:8080");
+        Path directory = Path.of(System.getProperty("import.directory", "imports"));
+        long rows = Long.parseLong(System.getProperty("import.rows", "10000000"));
+        int accountCount = Integer.parseInt(System.getProperty("import.accountCount", "100"));
+        double minRowsPerSecond = Double.parseDouble(System.getProperty("import.minRowsPerSecond", "0"));
+
+        String fileName = "benchmark-" + System.currentTimeMillis() + ".csv";
+        Path file = directory.resolve(fileName);
+        Files.createDirectories(directory);
+        long generateStart = System.nanoTime();
+        generate(file, rows, accountCount);
+        System.out.printf("generated %d rows (%d MB) in %d ms%n", rows, Files.size(file) >> 20,
+                (System.nanoTime() - generateStart) / 1_000_000);
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<String> started = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/transactions/import"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"fileName\":\"" + fileName + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (started.statusCode() != 202) {
+            throw new IllegalStateException("Import was not accepted: " + started.body());
+        }
+        String id = field(started.body(), "id");
+
+        String status;
+        do {
+            Thread.sleep(1000);
+            status = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/transactions/import/" + id)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            System.out.printf("%s: %s of %s bytes, %s rows%n", field(status, "state"),
+                    field(status, "processedBytes"), field(status, "totalBytes"), field(status, "rowsImported"));
+        } while ("RUNNING".equals(field(status, "state")));
+
+        double rate = Double.parseDouble(field(status, "rowsPerSecond"));
+        System.out.printf("imported %s rows, rejected %s, %.0f rows/s%n",
+                field(status, "rowsImported"), field(status, "rowsRejected"), rate);
+        Files.deleteIfExists(file);
+
+        if (!"COMPLETED".equals(field(status, "state"))) {
+            System.err.println("FAIL: import did not complete: " + field(status, "failure"));
+            System.exit(1);
+        }
+        if (rate < minRowsPerSecond) {
+            System.err.printf("FAIL: %.0f rows/s is below %.0f%n", rate, minRowsPerSecond);
+            System.exit(1);
+        }
+    }
+
+    private static void generate(Path file, long rows, int accountCount) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime start = LocalDateTime.now().minusYears(1).withNano(0);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("account_id,amount,type,timestamp\n");
+            for (long i = 0; i < rows; i++) {
+                writer.write(Integer.toString(random.nextInt(1, accountCount + 1)));
+                writer.write(',');
+                writer.write(Long.toString(random.nextLong(1, 1_000_000)));
+                writer.write('.');
+                writer.write(String.format("%02d", random.nextInt(100)));
+                writer.write(',');
+                writer.write(TYPES[random.nextInt(TYPES.length)]);
+                writer.write(',');
+                writer.write(start.plusSeconds(random.nextLong(31_536_000)).toString());
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static String field(String json, String name) {
+        Matcher matcher = FIELD.matcher(json);
+        while (matcher.find()) {
+            if (matcher.group(1).equals(name)) {
+                return matcher.group(2).replace("\"", "");
+            }
+        }
+        return null;
+    }
+}
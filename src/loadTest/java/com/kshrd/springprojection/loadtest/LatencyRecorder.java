@@ -0,0 +1,55 @@
+package com.kshrd.springprojection.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Per-worker latency samples in microseconds. Not thread-safe; each worker owns
+ * its recorders and they are merged once the run is over.
+ */
+public final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(long micros) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = micros;
+    }
+
+    public void error() {
+        errors++;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, size + other.size));
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    public long count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    /** Sorts the samples in place; call once before reading percentiles. */
+    public void seal() {
+        Arrays.sort(samples, 0, size);
+    }
+
+    public long percentile(double p) {
+        if (size == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * size) - 1;
+        return samples[Math.min(Math.max(index, 0), size - 1)];
+    }
+}
@@ -0,0 +1,70 @@
+package com.kshrd.springprojection.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadTest.*} system properties
+ * (passed through by Gradle as {@code -PloadTest.xxx=...}).
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        int concurrency,
+        int warmupSeconds,
+        int durationSeconds,
+        int requestTimeoutSeconds,
+        Map<Scenario, Integer> mix,
+        int accountCount,
+        int deepPageMax,
+        int pageSize,
+        int projectionMinAmount,
+        double maxErrorRate,
+        double tolerance,
+        Path baselineFile,
+        Path resultFile,
+        boolean updateBaseline
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                prop("baseUrl", "http://localhost:8080"),
+                Integer.parseInt(prop("concurrency", "32")),
+                Integer.parseInt(prop("warmupSeconds", "10")),
+                Integer.parseInt(prop("durationSeconds", "60")),
+                Integer.parseInt(prop("requestTimeoutSeconds", "10")),
+                parseMix(prop("mix", "create=20,paged=40,projection=25,type=15")),
+                Integer.parseInt(prop("accountCount", "100")),
+                Integer.parseInt(prop("deepPageMax", "50")),
+                Integer.parseInt(prop("pageSize", "20")),
+                Integer.parseInt(prop("projectionMinAmount", "100")),
+                Double.parseDouble(prop("maxErrorRate", "0.01")),
+                Double.parseDouble(prop("tolerance", "0.20")),
+                Path.of(prop("baselineFile", "loadtest-baseline.properties")),
+                Path.of(prop("resultFile", "build/loadtest/results.properties")),
+                Boolean.parseBoolean(prop("updateBaseline", "false"))
+        );
+    }
+
+    private static String prop(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.fromKey(parts[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix must contain at least one scenario");
+        }
+        return mix;
+    }
+}
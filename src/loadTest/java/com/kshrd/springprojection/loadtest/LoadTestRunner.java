@@ -0,0 +1,206 @@
+package com.kshrd.springprojection.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Drives a weighted mix of API calls against a running instance, prints throughput
+ * and latency percentiles per scenario and exits non-zero when the run breaches the
+ * error-rate limit or regresses against the stored baseline.
+ */
+public final class LoadTestRunner {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Scenario[] weighted;
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(config.requestTimeoutSeconds()))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.weighted = config.mix().entrySet().stream()
+                .flatMap(e -> Stream.generate(e::getKey).limit(e.getValue()))
+                .toArray(Scenario[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadTestRunner runner = new LoadTestRunner(config);
+
+        System.out.printf("Load test against %s: %d workers, mix %s%n",
+                config.baseUrl(), config.concurrency(), config.mix());
+
+        if (config.warmupSeconds() > 0) {
+            System.out.printf("Warming up for %ds...%n", config.warmupSeconds());
+            runner.run(config.warmupSeconds());
+        }
+
+        System.out.printf("Measuring for %ds...%n", config.durationSeconds());
+        long start = System.nanoTime();
+        Map<Scenario, LatencyRecorder> results = runner.run(config.durationSeconds());
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Properties measured = runner.report(results, elapsedSeconds);
+        Files.createDirectories(config.resultFile().toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(config.resultFile())) {
+            measured.store(out, "Load test results");
+        }
+
+        if (config.updateBaseline()) {
+            try (OutputStream out = Files.newOutputStream(config.baselineFile())) {
+                measured.store(out, "Load test baseline");
+            }
+            System.out.println("Baseline updated: " + config.baselineFile());
+            return;
+        }
+
+        List<String> failures = runner.check(results, measured);
+        if (!failures.isEmpty()) {
+            failures.forEach(f -> System.err.println("FAIL: " + f));
+            System.exit(1);
+        }
+        System.out.println("Load test passed");
+    }
+
+    private Map<Scenario, LatencyRecorder> run(int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<Map<Scenario, LatencyRecorder>>> workers = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                workers.add(executor.submit(() -> work(deadline)));
+            }
+        }
+
+        Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+        for (Future<Map<Scenario, LatencyRecorder>> worker : workers) {
+            worker.get().forEach((scenario, recorder) ->
+                    merged.computeIfAbsent(scenario, s -> new LatencyRecorder()).merge(recorder));
+        }
+        return merged;
+    }
+
+    private Map<Scenario, LatencyRecorder> work(long deadline) {
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = weighted[random.nextInt(weighted.length)];
+            LatencyRecorder recorder = recorders.computeIfAbsent(scenario, s -> new LatencyRecorder());
+            HttpRequest request = scenario.request(config, random);
+
+            long begin = System.nanoTime();
+            try {
+                HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream body = response.body()) {
+                    body.transferTo(OutputStream.nullOutputStream());
+                }
+                if (response.statusCode() >= 400) {
+                    recorder.error();
+                    continue;
+                }
+                recorder.record((System.nanoTime() - begin) / 1_000);
+            } catch (IOException e) {
+                recorder.error();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return recorders;
+    }
+
+    private Properties report(Map<Scenario, LatencyRecorder> results, double elapsedSeconds) {
+        Properties measured = new Properties();
+        long totalCount = 0;
+
+        System.out.printf("%n%-12s %9s %7s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms");
+        for (Map.Entry<Scenario, LatencyRecorder> entry : results.entrySet()) {
+            String key = entry.getKey().key();
+            LatencyRecorder recorder = entry.getValue();
+            recorder.seal();
+
+            double throughput = recorder.count() / elapsedSeconds;
+            totalCount += recorder.count();
+
+            System.out.printf("%-12s %9d %7d %10.1f", key, recorder.count(), recorder.errors(), throughput);
+            for (double p : PERCENTILES) {
+                long micros = recorder.percentile(p);
+                System.out.printf(" %9.2f", micros / 1000.0);
+                measured.setProperty(key + ".p" + (int) p + "Micros", Long.toString(micros));
+            }
+            System.out.println();
+            measured.setProperty(key + ".throughput", String.format(Locale.ROOT, "%.1f", throughput));
+        }
+
+        double totalThroughput = totalCount / elapsedSeconds;
+        System.out.printf("%-12s %9d %7s %10.1f%n", "total", totalCount, "", totalThroughput);
+        measured.setProperty("total.throughput", String.format(Locale.ROOT, "%.1f", totalThroughput));
+        return measured;
+    }
+
+    private List<String> check(Map<Scenario, LatencyRecorder> results, Properties measured) throws IOException {
+        List<String> failures = new ArrayList<>();
+
+        for (Map.Entry<Scenario, LatencyRecorder> entry : results.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            long attempts = recorder.count() + recorder.errors();
+            double errorRate = attempts == 0 ? 0 : (double) recorder.errors() / attempts;
+            if (errorRate > config.maxErrorRate()) {
+                failures.add(String.format("%s error rate %.2f%% exceeds %.2f%%",
+                        entry.getKey().key(), errorRate * 100, config.maxErrorRate() * 100));
+            }
+        }
+
+        if (!Files.exists(config.baselineFile())) {
+            System.out.println("No baseline at " + config.baselineFile() + ", skipping regression check");
+            return failures;
+        }
+
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(config.baselineFile())) {
+            baseline.load(in);
+        }
+
+        for (String name : baseline.stringPropertyNames()) {
+            String current = measured.getProperty(name);
+            if (current == null) {
+                continue;
+            }
+            double expected = Double.parseDouble(baseline.getProperty(name));
+            double actual = Double.parseDouble(current);
+
+            boolean higherIsBetter = name.endsWith(".throughput");
+            boolean regressed = higherIsBetter
+                    ? actual < expected * (1 - config.tolerance())
+                    : actual > expected * (1 + config.tolerance());
+            if (regressed) {
+                failures.add(String.format("%s regressed: baseline %.1f, measured %.1f (tolerance %.0f%%)",
+                        name, expected, actual, config.tolerance() * 100));
+            }
+        }
+        return failures;
+    }
+}
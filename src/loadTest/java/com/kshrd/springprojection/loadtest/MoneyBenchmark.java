@@ -0,0 +1,139 @@
+package com.kshrd.springprojection.loadtest;
+
+import com.kshrd.springprojection.dto.projection.TransactionSummaryDto;
+import com.kshrd.springprojection.money.Money;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Compares BigDecimal amounts with {@link Money} on the in-JVM steps of the list and dashboard
+ * paths: summing amounts, filtering by a threshold and serializing a page of summaries to JSON.
+ * Reports nanoseconds and allocated bytes per row for both representations. Row count and
+ * iterations are set with {@code -Pmoney.rows} and {@code -Pmoney.iterations}.
+ */
+public final class MoneyBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int rows = Integer.parseInt(System.getProperty("money.rows", "1000000"));
+        int iterations = Integer.parseInt(System.getProperty("money.iterations", "10"));
+        int pageSize = Integer.parseInt(System.getProperty("money.pageSize", "1000"));
+
+        SplittableRandom random = new SplittableRandom(42);
+        long[] cents = new long[rows];
+        BigDecimal[] decimals = new BigDecimal[rows];
+        for (int i = 0; i < rows; i++) {
+            cents[i] = random.nextLong(1, 500_000_00L);
+            decimals[i] = BigDecimal.valueOf(cents[i], 2);
+        }
+        Money threshold = Money.ofMinorUnits(250_000_00L);
+        BigDecimal decimalThreshold = threshold.toBigDecimal();
+
+        List<TransactionSummaryDto> moneyPage = new ArrayList<>(pageSize);
+        List<DecimalSummary> decimalPage = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            moneyPage.add(new TransactionSummaryDto((long) i, Money.ofMinorUnits(cents[i]), "DEPOSIT"));
+            decimalPage.add(new DecimalSummary((long) i, decimals[i], "DEPOSIT"));
+        }
+        JsonMapper mapper = JsonMapper.builder().build();
+
+        System.out.printf("%d rows, %d iterations, pages of %d%n%n", rows, iterations, pageSize);
+        System.out.printf("%-12s %-10s %12s %14s%n", "step", "amounts", "ns/row", "bytes/row");
+
+        compare("sum", rows, iterations, () -> {
+            BigDecimal total = BigDecimal.ZERO;
+            for (BigDecimal amount : decimals) {
+                total = total.add(amount);
+            }
+            return total.signum();
+        }, () -> {
+            long total = 0;
+            for (long amount : cents) {
+                total = Math.addExact(total, amount);
+            }
+            return Money.ofMinorUnits(total).minorUnits();
+        });
+
+        compare("filter", rows, iterations, () -> {
+            long matches = 0;
+            for (BigDecimal amount : decimals) {
+                if (amount.compareTo(decimalThreshold) > 0) {
+                    matches++;
+                }
+            }
+            return matches;
+        }, () -> {
+            // As TransactionColumnStore does: unwrap the threshold once, compare raw longs
+            long limit = threshold.minorUnits();
+            long matches = 0;
+            for (long amount : cents) {
+                if (amount > limit) {
+                    matches++;
+                }
+            }
+            return matches;
+        });
+
+        int pages = Math.max(1, rows / pageSize);
+        compare("serialize", pages * pageSize, iterations, () -> {
+            for (int i = 0; i < pages; i++) {
+                mapper.writeValue(OutputStream.nullOutputStream(), decimalPage);
+            }
+            return pages;
+        }, () -> {
+            for (int i = 0; i < pages; i++) {
+                mapper.writeValue(OutputStream.nullOutputStream(), moneyPage);
+            }
+            return pages;
+        });
+    }
+
+    private static void compare(String step, int rows, int iterations, LongSupplier decimal, LongSupplier money) {
+        // Warm up both variants before measuring either
+        for (int i = 0; i < 3; i++) {
+            decimal.getAsLong();
+            money.getAsLong();
+        }
+        Result decimalResult = measure(rows, iterations, decimal);
+        Result moneyResult = measure(rows, iterations, money);
+        print(step, "BigDecimal", decimalResult);
+        print(step, "Money", moneyResult);
+        System.out.printf("%-12s %-10s %11.1fx %13.1fx%n%n", step, "gain",
+                decimalResult.nanosPerRow / moneyResult.nanosPerRow,
+                decimalResult.bytesPerRow / Math.max(moneyResult.bytesPerRow, 0.01));
+    }
+
+    private static Result measure(int rows, int iterations, LongSupplier body) {
+        long sink = 0;
+        long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += body.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - bytesBefore;
+        if (sink == Long.MIN_VALUE) {
+            System.out.println();
+        }
+        double samples = (double) rows * iterations;
+        return new Result(elapsed / samples, allocated / samples);
+    }
+
+    private static void print(String step, String amounts, Result result) {
+        System.out.printf("%-12s %-10s %12.2f %14.2f%n", step, amounts, result.nanosPerRow, result.bytesPerRow);
+    }
+
+    private record Result(double nanosPerRow, double bytesPerRow) {}
+
+    // The shape TransactionSummaryDto had before amounts became Money
+    private record DecimalSummary(Long id, BigDecimal amount, String type) {}
+}
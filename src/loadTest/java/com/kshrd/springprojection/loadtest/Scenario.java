@@ -0,0 +1,91 @@
+package com.kshrd.springprojection.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum Scenario {
+    CREATE("create") {
+        @Override
+        HttpRequest request(LoadTestConfig config, ThreadLocalRandom random) {
+            String body = String.format(Locale.ROOT,
+                    "{\"amount\":%.2f,\"type\":\"%s\",\"accountId\":%d}",
+                    10 + random.nextDouble() * 5000,
+                    random.nextBoolean() ? "DEPOSIT" : "WITHDRAWAL",
+                    1 + random.nextInt(config.accountCount()));
+            return builder(config, "/api/v1/transactions")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+    PAGED("paged") {
+        @Override
+        HttpRequest request(LoadTestConfig config, ThreadLocalRandom random) {
+            int page = 1 + random.nextInt(config.deepPageMax());
+            return builder(config, "/api/v1/transactions/paged?page=" + page + "&size=" + config.pageSize())
+                    .GET()
+                    .build();
+        }
+    },
+    PROJECTION("projection") {
+        @Override
+        HttpRequest request(LoadTestConfig config, ThreadLocalRandom random) {
+            int amount = random.nextInt(config.projectionMinAmount(), 5000);
+            String type = random.nextBoolean() ? "SUMMARY" : "WITH_ACCOUNT";
+            return builder(config, "/api/v1/transactions/projection?amount=" + amount + "&type=" + type)
+                    .GET()
+                    .build();
+        }
+    },
+    TYPE("type") {
+        @Override
+        HttpRequest request(LoadTestConfig config, ThreadLocalRandom random) {
+            String type = random.nextBoolean() ? "DEPOSIT" : "WITHDRAWAL";
+            return builder(config, "/api/v1/transactions/type?type=" + type)
+                    .GET()
+                    .build();
+        }
+    },
+    // Pair with src/loadTest/resources/seed-million-accounts.sql
+    SEARCH("search") {
+        private static final String[] TERMS = {"sokha", "vanna", "ali", "ACC00042", "3fa", "b07"};
+
+        @Override
+        HttpRequest request(LoadTestConfig config, ThreadLocalRandom random) {
+            String mode = random.nextBoolean() ? "PREFIX" : "CONTAINS";
+            return builder(config, "/api/v1/accounts/search?q=" + TERMS[random.nextInt(TERMS.length)]
+                    + "&mode=" + mode + "&size=" + config.pageSize())
+                    .GET()
+                    .build();
+        }
+    };
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    abstract HttpRequest request(LoadTestConfig config, ThreadLocalRandom random);
+
+    public static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key.trim())) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + key);
+    }
+
+    private static HttpRequest.Builder builder(LoadTestConfig config, String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(Duration.ofSeconds(config.requestTimeoutSeconds()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.kshrd.springprojection.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Launches the boot jar several times and measures the time from process start until the
+ * first request succeeds. Extra JVM flags (e.g. {@code -XX:SharedArchiveFile=app.jsa
+ * -Dspring.aot.enabled=true}) are passed with {@code -Pstartup.jvmArgs=...}; the run fails
+ * when the median exceeds {@code startup.maxMedianMillis}.
+ */
+public final class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String jar = System.getProperty("startup.jar");
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        int port = Integer.parseInt(System.getProperty("startup.port", "18080"));
+        String jvmArgs = System.getProperty("startup.jvmArgs", "");
+        long maxMedianMillis = Long.parseLong(System.getProperty("startup.maxMedianMillis", "0"));
+        long timeoutMillis = Long.parseLong(System.getProperty("startup.timeoutMillis", "120000"));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest probe = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/transactions/paged?size=1"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long[] samples = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            List<String> command = new ArrayList<>();
+            command.add(ProcessHandle.current().info().command().orElse("java"));
+            if (!jvmArgs.isBlank()) {
+                command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+            }
+            command.addAll(List.of("-Dserver.port=" + port, "-jar", jar));
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                samples[run] = waitForFirstRequest(client, probe, start, timeoutMillis);
+                System.out.printf("run %d: first request after %d ms%n", run + 1, samples[run]);
+            } finally {
+                process.destroy();
+                process.waitFor();
+            }
+        }
+
+        Arrays.sort(samples);
+        long median = samples[runs / 2];
+        System.out.printf("time to first request: min %d ms, median %d ms, max %d ms%n",
+                samples[0], median, samples[runs - 1]);
+
+        if (maxMedianMillis > 0 && median > maxMedianMillis) {
+            System.err.printf("FAIL: median %d ms exceeds %d ms%n", median, maxMedianMillis);
+            System.exit(1);
+        }
+    }
+
+    private static long waitForFirstRequest(HttpClient client, HttpRequest probe, long start, long timeoutMillis)
+            throws InterruptedException {
+        long deadline = start + timeoutMillis * 1_000_000;
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<Void> response = client.send(probe, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("Application did not answer within " + timeoutMillis + " ms");
+    }
+}
@@ -0,0 +1,148 @@
+package com.kshrd.springprojection.loadtest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fires concurrent transfers in both directions between a few hot accounts
+ * ({@code transfer.accounts}, ids 1..n) to provoke lock contention, then reports
+ * transfers/second and latency and checks via {@code /stats/type} that exactly one debit and
+ * one credit leg of equal amount was written per successful transfer. Start the app with
+ * {@code ADMISSION_ENABLED=false}, otherwise the per-client rate limit caps the run.
+ */
+public final class TransferStressTest {
+
+    private static final Pattern TYPE_TOTAL = Pattern.compile(
+            "\"type\"\\s*:\\s*\"(TRANSFER_IN|TRANSFER_OUT)\"\\s*,\\s*\"count\"\\s*:\\s*(\\d+)\\s*,\\s*\"totalAmount\"\\s*:\\s*([\\d.]+)");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("transfer.baseUrl", "http://localhost:8080");
+        int accounts = Integer.parseInt(System.getProperty("transfer.accounts", "10"));
+        int concurrency = Integer.parseInt(System.getProperty("transfer.concurrency", "64"));
+        int durationSeconds = Integer.parseInt(System.getProperty("transfer.durationSeconds", "30"));
+        double minPerSecond = Double.parseDouble(System.getProperty("transfer.minPerSecond", "0"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String statsUrl = baseUrl + "/api/v1/transactions/stats/type?from="
+                + LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS)
+                + "&to=" + LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        Totals before = totals(client, statsUrl);
+
+        long deadline = System.nanoTime() + durationSeconds * 1_000_000_000L;
+        List<Future<LatencyRecorder>> workers = new ArrayList<>();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> transferLoop(client, baseUrl, accounts, deadline)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        LatencyRecorder all = new LatencyRecorder();
+        for (Future<LatencyRecorder> worker : workers) {
+            all.merge(worker.get());
+        }
+        all.seal();
+        double perSecond = all.count() / elapsedSeconds;
+        System.out.printf("%d transfers (%d errors) in %.1f s: %.0f transfers/s, p50 %d us, p99 %d us%n",
+                all.count(), all.errors(), elapsedSeconds, perSecond, all.percentile(50), all.percentile(99));
+
+        Totals after = totals(client, statsUrl);
+        long debits = after.outCount - before.outCount;
+        long credits = after.inCount - before.inCount;
+        BigDecimal debited = after.outTotal.subtract(before.outTotal);
+        BigDecimal credited = after.inTotal.subtract(before.inTotal);
+        System.out.printf("legs written: %d debits (%s), %d credits (%s)%n", debits, debited, credits, credited);
+
+        boolean failed = false;
+        if (debits != all.count() || credits != all.count() || debited.compareTo(credited) != 0) {
+            System.err.println("FAIL: transfer legs do not match the successful transfers");
+            failed = true;
+        }
+        if (all.errors() > 0) {
+            System.err.printf("FAIL: %d transfers failed%n", all.errors());
+            failed = true;
+        }
+        if (perSecond < minPerSecond) {
+            System.err.printf("FAIL: %.0f transfers/s is below %.0f%n", perSecond, minPerSecond);
+            failed = true;
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static LatencyRecorder transferLoop(HttpClient client, String baseUrl, int accounts, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LatencyRecorder recorder = new LatencyRecorder();
+        while (System.nanoTime() < deadline) {
+            long from = random.nextLong(1, accounts + 1);
+            long to = random.nextLong(1, accounts);
+            if (to >= from) {
+                to++;
+            }
+            String body = "{\"fromAccountId\":" + from + ",\"toAccountId\":" + to
+                    + ",\"amount\":" + random.nextInt(1, 10_000) + "." + String.format("%02d", random.nextInt(100)) + "}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/transactions/transfer"))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            long begin = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 201) {
+                    recorder.record((System.nanoTime() - begin) / 1_000);
+                } else {
+                    recorder.error();
+                }
+            } catch (Exception e) {
+                recorder.error();
+            }
+        }
+        return recorder;
+    }
+
+    private static Totals totals(HttpClient client, String statsUrl) throws Exception {
+        String body = client.send(HttpRequest.newBuilder(URI.create(statsUrl)).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Totals totals = new Totals();
+        Matcher matcher = TYPE_TOTAL.matcher(body);
+        while (matcher.find()) {
+            long count = Long.parseLong(matcher.group(2));
+            BigDecimal total = new BigDecimal(matcher.group(3));
+            if (matcher.group(1).equals("TRANSFER_IN")) {
+                totals.inCount = count;
+                totals.inTotal = total;
+            } else {
+                totals.outCount = count;
+                totals.outTotal = total;
+            }
+        }
+        return totals;
+    }
+
+    private static final class Totals {
+        long inCount;
+        long outCount;
+        BigDecimal inTotal = BigDecimal.ZERO;
+        BigDecimal outTotal = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,9 @@
+-- Benchmark data for account search: psql -f seed-million-accounts.sql
+INSERT INTO accounts (account_number, holder_name)
+SELECT
+    'ACC' || LPAD(gs::text, 7, '0') AS account_number,
+    (ARRAY['Alice', 'Bob', 'Chan', 'Dara', 'Sokha', 'Vanna', 'Rithy', 'Maly'])[1 + gs % 8]
+        || ' ' || md5(gs::text) AS holder_name
+FROM generate_series(1, 1000000) gs;
+
+ANALYZE accounts;
@@ -0,0 +1,86 @@
+package com.kshrd.springprojection.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency-based concurrency limit (gradient algorithm). The limit shrinks when request
+ * latency rises above the best latency seen recently, meaning requests are queueing on the
+ * connection pool, and grows back by roughly sqrt(limit) while latency stays near that best
+ * and the limit is actually in use. The best latency is the minimum over the current and the
+ * previous window of samples, so it follows a permanently slower database after two windows
+ * without creeping up while requests queue.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final int WINDOW_SAMPLES = 500;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private long previousWindowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        update(rttNanos, inflightAtCompletion);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtCompletion) {
+        long noLoadRttNanos = Math.min(recordRtt(rttNanos), previousWindowMinRttNanos);
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadRttNanos / Math.max(rttNanos, 1)));
+        // Only probe upwards when the limit is the constraint; an idle limiter keeps its limit
+        double headroom = inflightAtCompletion >= estimatedLimit / 2 ? Math.sqrt(estimatedLimit) : 0;
+        double target = estimatedLimit * gradient + headroom;
+
+        estimatedLimit = (1 - SMOOTHING) * estimatedLimit + SMOOTHING * target;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    // Returns the minimum of the current window including this sample
+    private long recordRtt(long rttNanos) {
+        long windowMin = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples >= WINDOW_SAMPLES) {
+            previousWindowMinRttNanos = windowMin;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        } else {
+            windowMinRttNanos = windowMin;
+        }
+        return windowMin;
+    }
+}
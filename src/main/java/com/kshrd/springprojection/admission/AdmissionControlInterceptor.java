@@ -0,0 +1,105 @@
+package com.kshrd.springprojection.admission;
+
+import com.kshrd.springprojection.enumeration.EndpointGroup;
+import com.kshrd.springprojection.exception.ServiceUnavailableException;
+import com.kshrd.springprojection.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds load before a request reaches the database: first a per-client token bucket (429),
+ * then a per-endpoint-group adaptive concurrency limit (503). Rejections thrown here are
+ * rendered by GlobalException like any other error.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+
+    private final boolean enabled;
+    private final ClientRateLimiter rateLimiter;
+    private final ClientKeyResolver clientKeyResolver;
+    private final Map<EndpointGroup, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointGroup.class);
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlInterceptor(
+            @Value("${admission.enabled:true}") boolean enabled,
+            @Value("${admission.rate-limit.permits-per-second:50}") double permitsPerSecond,
+            @Value("${admission.rate-limit.burst:100}") int burst,
+            @Value("${admission.rate-limit.max-clients:100000}") int maxClients,
+            @Value("${admission.rate-limit.trusted-proxies:}") Set<String> trustedProxies,
+            @Value("${admission.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${admission.concurrency.min-limit:4}") int minLimit,
+            @Value("${admission.concurrency.max-limit:200}") int maxLimit,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.rateLimiter = new ClientRateLimiter(permitsPerSecond, burst, maxClients);
+        this.clientKeyResolver = new ClientKeyResolver(trustedProxies);
+        this.meterRegistry = meterRegistry;
+
+        for (EndpointGroup group : EndpointGroup.values()) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+            limiters.put(group, limiter);
+            Gauge.builder("admission.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("group", group.getFieldName())
+                    .register(meterRegistry);
+            Gauge.builder("admission.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                    .tag("group", group.getFieldName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        EndpointGroup group = EndpointGroup.of(request.getMethod(), request.getRequestURI());
+
+        long waitNanos = rateLimiter.tryAcquire(
+                clientKeyResolver.resolve(request.getRemoteAddr(), request.getHeader("X-Forwarded-For")));
+        if (waitNanos > 0) {
+            count(group, "rate_limited");
+            throw new TooManyRequestsException(
+                    "Rate limit exceeded, retry later",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))
+            );
+        }
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(group);
+        if (!limiter.tryAcquire()) {
+            count(group, "shed");
+            throw new ServiceUnavailableException("Server is at capacity, retry later");
+        }
+
+        count(group, "admitted");
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(LIMITER_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter limiter
+                && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.removeAttribute(LIMITER_ATTRIBUTE);
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private void count(EndpointGroup group, String outcome) {
+        meterRegistry.counter("admission.requests", "group", group.getFieldName(), "outcome", outcome).increment();
+    }
+}
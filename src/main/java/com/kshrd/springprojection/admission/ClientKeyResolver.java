@@ -0,0 +1,34 @@
+package com.kshrd.springprojection.admission;
+
+import java.util.Set;
+
+/**
+ * Picks the address a client is rate limited by. X-Forwarded-For is only believed when the
+ * connection comes from a configured proxy; the header is then read right to left, skipping
+ * further trusted proxies, so the first untrusted hop wins and a client cannot pick its own key
+ * by prepending addresses. Client-supplied headers such as API keys are not used, since nothing
+ * authenticates them.
+ */
+public class ClientKeyResolver {
+
+    private final Set<String> trustedProxies;
+
+    public ClientKeyResolver(Set<String> trustedProxies) {
+        this.trustedProxies = Set.copyOf(trustedProxies);
+    }
+
+    public String resolve(String remoteAddress, String forwardedFor) {
+        if (forwardedFor == null || forwardedFor.isBlank() || !trustedProxies.contains(remoteAddress)) {
+            return "ip:" + remoteAddress;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return "ip:" + hop;
+            }
+        }
+        // Every hop is one of our proxies, so the request started inside the trusted network
+        return "ip:" + remoteAddress;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kshrd.springprojection.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One token bucket per client, at most {@code maxClients} of them. When the table is full, idle
+ * buckets are swept by a single thread at most once per second, so a full table costs one scan
+ * per second instead of one per request. Clients that still do not fit share one overflow bucket.
+ */
+public class ClientRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxClients;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+    private final AtomicLong lastSweepNanos;
+
+    public ClientRateLimiter(double permitsPerSecond, int burst, int maxClients) {
+        this(permitsPerSecond, burst, maxClients, System.nanoTime());
+    }
+
+    ClientRateLimiter(double permitsPerSecond, int burst, int maxClients, long nowNanos) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxClients = maxClients;
+        this.overflow = new TokenBucket(permitsPerSecond, burst, nowNanos);
+        this.lastSweepNanos = new AtomicLong(nowNanos - SWEEP_INTERVAL_NANOS);
+    }
+
+    // Returns 0 when admitted, otherwise the nanoseconds the client should wait
+    public long tryAcquire(String clientKey) {
+        return tryAcquire(clientKey, System.nanoTime());
+    }
+
+    long tryAcquire(String clientKey, long nowNanos) {
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            bucket = bucketForNewClient(clientKey, nowNanos);
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketForNewClient(String clientKey, long nowNanos) {
+        if (buckets.size() >= maxClients) {
+            sweepIdle(nowNanos);
+            if (buckets.size() >= maxClients) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(clientKey, key -> new TokenBucket(permitsPerSecond, burst, nowNanos));
+    }
+
+    private void sweepIdle(long nowNanos) {
+        long last = lastSweepNanos.get();
+        if (nowNanos - last < SWEEP_INTERVAL_NANOS || !lastSweepNanos.compareAndSet(last, nowNanos)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+    }
+}
@@ -0,0 +1,10 @@
+package com.kshrd.springprojection.archive;
+
+public record ArchivedTransaction(
+        long id,
+        long accountId,
+        long amountMinorUnits,
+        String type,
+        long epochMillis
+) {
+}
@@ -0,0 +1,250 @@
+package com.kshrd.springprojection.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Immutable archive segment. Rows sorted by timestamp are cut into blocks of
+ * {@link #BLOCK_ROWS}, each deflate-compressed, followed by a sparse index with one entry
+ * per block and a fixed-size footer:
+ * <pre>
+ * [magic][block]...[block][index entry]...[index entry][footer]
+ * index entry = minMillis, maxMillis, offset, compressedLength, rawLength, rowCount
+ * footer      = indexOffset, blockCount, rowCount, minMillis, maxMillis, magic
+ * </pre>
+ * Reads map the file read-only and inflate only the blocks whose range overlaps the query.
+ */
+public final class SegmentFile {
+
+    static final int BLOCK_ROWS = 1024;
+
+    private static final int MAGIC = 0x54585347; // "TXSG"
+    private static final int INDEX_ENTRY_BYTES = 8 + 8 + 8 + 4 + 4 + 4;
+    private static final int FOOTER_BYTES = 8 + 4 + 8 + 8 + 8 + 4;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final long[] blockMinMillis;
+    private final long[] blockMaxMillis;
+    private final long[] blockOffsets;
+    private final int[] blockCompressedLengths;
+    private final int[] blockRawLengths;
+    private final long rowCount;
+    private final long minMillis;
+    private final long maxMillis;
+
+    private SegmentFile(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+
+        int footer = buffer.capacity() - FOOTER_BYTES;
+        if (buffer.capacity() < FOOTER_BYTES + 4 || buffer.getInt(0) != MAGIC || buffer.getInt(footer + FOOTER_BYTES - 4) != MAGIC) {
+            throw new IllegalStateException("Not a complete archive segment: " + path);
+        }
+        long indexOffset = buffer.getLong(footer);
+        int blockCount = buffer.getInt(footer + 8);
+        this.rowCount = buffer.getLong(footer + 12);
+        this.minMillis = buffer.getLong(footer + 20);
+        this.maxMillis = buffer.getLong(footer + 28);
+
+        this.blockMinMillis = new long[blockCount];
+        this.blockMaxMillis = new long[blockCount];
+        this.blockOffsets = new long[blockCount];
+        this.blockCompressedLengths = new int[blockCount];
+        this.blockRawLengths = new int[blockCount];
+        for (int b = 0; b < blockCount; b++) {
+            int entry = (int) indexOffset + b * INDEX_ENTRY_BYTES;
+            blockMinMillis[b] = buffer.getLong(entry);
+            blockMaxMillis[b] = buffer.getLong(entry + 8);
+            blockOffsets[b] = buffer.getLong(entry + 16);
+            blockCompressedLengths[b] = buffer.getInt(entry + 24);
+            blockRawLengths[b] = buffer.getInt(entry + 28);
+        }
+    }
+
+    public static SegmentFile open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new SegmentFile(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes rows (already sorted by timestamp) to a temporary file, forces it to disk and
+     * atomically moves it to {@code target}, so readers never see a partial segment.
+     */
+    public static void write(Path target, List<ArchivedTransaction> rows) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(index);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.allocate(4).putInt(MAGIC).flip());
+
+            int blockCount = 0;
+            for (int from = 0; from < rows.size(); from += BLOCK_ROWS) {
+                List<ArchivedTransaction> block = rows.subList(from, Math.min(from + BLOCK_ROWS, rows.size()));
+                byte[] raw = encode(block);
+
+                deflater.reset();
+                deflater.setInput(raw);
+                deflater.finish();
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2);
+                byte[] chunk = new byte[8192];
+                while (!deflater.finished()) {
+                    compressed.write(chunk, 0, deflater.deflate(chunk));
+                }
+
+                indexOut.writeLong(block.getFirst().epochMillis());
+                indexOut.writeLong(block.getLast().epochMillis());
+                indexOut.writeLong(channel.position());
+                indexOut.writeInt(compressed.size());
+                indexOut.writeInt(raw.length);
+                indexOut.writeInt(block.size());
+
+                writeFully(channel, ByteBuffer.wrap(compressed.toByteArray()));
+                blockCount++;
+            }
+
+            long indexOffset = channel.position();
+            writeFully(channel, ByteBuffer.wrap(index.toByteArray()));
+
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_BYTES)
+                    .putLong(indexOffset)
+                    .putInt(blockCount)
+                    .putLong(rows.size())
+                    .putLong(rows.getFirst().epochMillis())
+                    .putLong(rows.getLast().epochMillis())
+                    .putInt(MAGIC);
+            writeFully(channel, footer.flip());
+            channel.force(true);
+        } finally {
+            deflater.end();
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public long minMillis() {
+        return minMillis;
+    }
+
+    public long maxMillis() {
+        return maxMillis;
+    }
+
+    // Visits rows with fromMillis <= timestamp < toMillis in timestamp order
+    public void scan(long fromMillis, long toMillis, Consumer<ArchivedTransaction> consumer) {
+        if (toMillis <= minMillis || fromMillis > maxMillis) {
+            return;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            for (int b = firstBlock(fromMillis); b < blockOffsets.length && blockMinMillis[b] < toMillis; b++) {
+                if (blockMaxMillis[b] < fromMillis) {
+                    continue;
+                }
+                for (ArchivedTransaction row : decode(inflate(inflater, b))) {
+                    if (row.epochMillis() >= fromMillis && row.epochMillis() < toMillis) {
+                        consumer.accept(row);
+                    }
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Binary search on the sparse index for the first block that may hold fromMillis
+    private int firstBlock(long fromMillis) {
+        int low = 0;
+        int high = blockMaxMillis.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blockMaxMillis[mid] < fromMillis) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private byte[] inflate(Inflater inflater, int block) {
+        ByteBuffer compressed = buffer.slice((int) blockOffsets[block], blockCompressedLengths[block]);
+        byte[] raw = new byte[blockRawLengths[block]];
+        inflater.reset();
+        inflater.setInput(compressed);
+        try {
+            int n = 0;
+            while (n < raw.length && !inflater.finished()) {
+                n += inflater.inflate(raw, n, raw.length - n);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block " + block + " in " + path, e);
+        }
+        return raw;
+    }
+
+    private static byte[] encode(List<ArchivedTransaction> block) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(block.size() * 40);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (ArchivedTransaction row : block) {
+            out.writeLong(row.id());
+            out.writeLong(row.accountId());
+            out.writeLong(row.amountMinorUnits());
+            out.writeUTF(Objects.requireNonNullElse(row.type(), ""));
+            out.writeLong(row.epochMillis());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<ArchivedTransaction> decode(byte[] raw) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        List<ArchivedTransaction> rows = new ArrayList<>(BLOCK_ROWS);
+        try {
+            while (in.available() > 0) {
+                rows.add(new ArchivedTransaction(in.readLong(), in.readLong(), in.readLong(), in.readUTF(), in.readLong()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.kshrd.springprojection.archive;
+
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Moves transactions older than the retention period out of the hot table into immutable
+ * segment files, and reads them back for queries whose time range reaches that far.
+ * Each batch is taken with {@code DELETE ... RETURNING}, written as a {@code .pending} file and
+ * registered in {@code archive_segments} in one transaction, so a row is either in the table or
+ * in exactly one committed segment. The file becomes {@code .seg} after the commit; pending files
+ * left by a crash are promoted or discarded depending on whether their registration committed.
+ * An advisory lock lets one instance archive at a time. With several instances the directory
+ * must be shared storage: every instance opens the segments listed in the table, picking up
+ * new ones when another node's ARCHIVED events are relayed.
+ */
+@Slf4j
+@Component
+public class TransactionArchive {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String PENDING_SUFFIX = ".pending";
+    // pg_try_advisory_xact_lock key shared by all instances ("TXARCH")
+    private static final long ARCHIVE_LOCK_KEY = 0x545841524348L;
+
+    private static final String DELETE_BATCH_SQL = """
+            DELETE FROM transactions
+            WHERE id IN (
+                SELECT id FROM transactions
+                WHERE timestamp < ?
+                ORDER BY timestamp, id
+                LIMIT ?
+                FOR UPDATE
+            )
+            RETURNING id, account_id, CAST(amount * 100 AS BIGINT) AS amount_minor, type, timestamp
+            """;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int retentionDays;
+    private final int batchSize;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<SegmentFile> segments = new CopyOnWriteArrayList<>();
+    // Guarded by segments
+    private final Set<String> openedNames = new HashSet<>();
+    // Segments are listed from the table on first use, so nothing touches the database at startup
+    private volatile boolean segmentsStale = true;
+
+    public TransactionArchive(
+            @Value("${transactions.archive.enabled:false}") boolean enabled,
+            @Value("${transactions.archive.directory:archive}") Path directory,
+            @Value("${transactions.archive.retention-days:90}") int retentionDays,
+            @Value("${transactions.archive.batch-size:100000}") int batchSize,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "${transactions.archive.cron:0 30 2 * * *}")
+    public void archiveExpired() {
+        if (enabled) {
+            archiveOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        }
+    }
+
+    public synchronized long archiveOlderThan(LocalDateTime cutoff) {
+        long archived = 0;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        while (true) {
+            ArchivedBatch batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (batch == null) {
+                break;
+            }
+            openCommitted(batch.name());
+            archived += batch.rows();
+            if (batch.rows() < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} transactions older than {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    // Existing segments are always served, even with archiving switched off, so archived rows never vanish
+    public boolean reaches(LocalDateTime from, LocalDateTime to) {
+        refreshSegments();
+        long fromMillis = toEpochMillis(from);
+        long toMillis = toEpochMillis(to);
+        return segments.stream().anyMatch(s -> s.minMillis() < toMillis && s.maxMillis() >= fromMillis);
+    }
+
+    // Visits archived rows with from <= timestamp < to, oldest segment first
+    public void scan(LocalDateTime from, LocalDateTime to, Consumer<ArchivedTransaction> consumer) {
+        refreshSegments();
+        long fromMillis = toEpochMillis(from);
+        long toMillis = toEpochMillis(to);
+        for (SegmentFile segment : segments) {
+            segment.scan(fromMillis, toMillis, consumer);
+        }
+    }
+
+    // Segments committed by other instances are announced by their relayed ARCHIVED events
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (event.change() == ChangeType.ARCHIVED) {
+            segmentsStale = true;
+        }
+    }
+
+    // For when ARCHIVED events may have been missed, e.g. a peer's batch collapsed into a reset
+    public void invalidateSegments() {
+        segmentsStale = true;
+    }
+
+    // Runs in one transaction: the rows leave the table only if their segment is registered with them
+    private ArchivedBatch archiveBatch(LocalDateTime cutoff) {
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ARCHIVE_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("Another instance is archiving transactions, skipping");
+            return null;
+        }
+        discardUncommittedPending();
+
+        List<ArchivedTransaction> rows = new ArrayList<>(jdbcTemplate.query(DELETE_BATCH_SQL, (rs, i) -> new ArchivedTransaction(
+                rs.getLong("id"),
+                rs.getLong("account_id"),
+                rs.getLong("amount_minor"),
+                rs.getString("type"),
+                toEpochMillis(rs.getTimestamp("timestamp").toLocalDateTime())
+        ), Timestamp.valueOf(cutoff), batchSize));
+        if (rows.isEmpty()) {
+            return null;
+        }
+        rows.sort(Comparator.comparingLong(ArchivedTransaction::epochMillis).thenComparingLong(ArchivedTransaction::id));
+        ArchivedTransaction first = rows.getFirst();
+        String name = String.format("segment-%d-%d%s", first.epochMillis(), first.id(), SEGMENT_SUFFIX);
+
+        try {
+            SegmentFile.write(pendingPath(name), rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        jdbcTemplate.update(
+                "INSERT INTO archive_segments (name, row_count, min_timestamp, max_timestamp) VALUES (?, ?, ?, ?)",
+                name, rows.size(), toTimestamp(first.epochMillis()), toTimestamp(rows.getLast().epochMillis()));
+        for (ArchivedTransaction row : rows) {
+            eventPublisher.publishEvent(TransactionChangedEvent.archived(row.id()));
+        }
+        return new ArchivedBatch(name, rows.size());
+    }
+
+    // Only called under the archive lock, so an unregistered pending file belongs to a rolled back batch
+    private void discardUncommittedPending() {
+        Set<String> committed = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT name FROM archive_segments", String.class));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + PENDING_SUFFIX + "*")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String name = fileName.substring(0, fileName.indexOf(PENDING_SUFFIX));
+                // Committed ones are renamed by openCommitted; .pending.tmp files are always partial
+                if (!fileName.endsWith(PENDING_SUFFIX) || !committed.contains(name)) {
+                    log.warn("Discarding archive file {} from a batch that did not commit", fileName);
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Opens segments committed by this or another instance since the last look
+    private void refreshSegments() {
+        if (!segmentsStale) {
+            return;
+        }
+        synchronized (segments) {
+            if (!segmentsStale) {
+                return;
+            }
+            // Cleared first so an ARCHIVED event arriving during the refresh triggers another one
+            segmentsStale = false;
+            try {
+                for (String name : jdbcTemplate.queryForList("SELECT name FROM archive_segments", String.class)) {
+                    openCommitted(name);
+                }
+            } catch (RuntimeException e) {
+                segmentsStale = true;
+                throw e;
+            }
+        }
+    }
+
+    // Renames the pending file of a committed segment if nobody has yet, then serves it
+    private void openCommitted(String name) {
+        synchronized (segments) {
+            if (openedNames.contains(name)) {
+                return;
+            }
+            Path file = directory.resolve(name);
+            Path pending = pendingPath(name);
+            try {
+                if (Files.exists(pending)) {
+                    Files.move(pending, file, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (NoSuchFileException e) {
+                // Promoted concurrently by another instance sharing the directory
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!Files.exists(file)) {
+                throw new IllegalStateException("Archive segment " + name + " is committed but missing from "
+                        + directory.toAbsolutePath() + "; all instances must share the archive directory");
+            }
+            segments.add(SegmentFile.open(file));
+            segments.sort(Comparator.comparingLong(SegmentFile::minMillis));
+            openedNames.add(name);
+        }
+    }
+
+    private Path pendingPath(String name) {
+        return directory.resolve(name + PENDING_SUFFIX);
+    }
+
+    public static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static Timestamp toTimestamp(long epochMillis) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC));
+    }
+
+    private record ArchivedBatch(String name, int rows) {
+    }
+}
@@ -0,0 +1,336 @@
+package com.kshrd.springprojection.cache;
+
+import com.kshrd.springprojection.archive.TransactionArchive;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.event.AccountChangedEvent;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import com.kshrd.springprojection.repository.TransactionJdbcRepository;
+import com.kshrd.springprojection.snapshot.TransactionColumnStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Relays committed account and transaction changes between instances over PostgreSQL
+ * {@code LISTEN/NOTIFY}. Local events are queued and sent every {@code flush-millis} as a few
+ * notifications of up to ~8 KB ({@code origin|tU42,aD7,...}); when the queue overflows a single
+ * reset ({@code *}) is sent instead. Receivers re-read changed transaction rows and republish
+ * them as local events, so caches, the snapshot and SSE streams see other nodes' writes.
+ * On a reset, after the listen connection is lost and when a notification cannot be applied,
+ * local caches are cleared, the snapshot is reloaded and archive segments are listed again,
+ * because changes may have been missed.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String CHANNEL = "entity_changes";
+    private static final String RESET = "*";
+    private static final int MAX_PAYLOAD_CHARS = 7_900;
+    private static final int POLL_MILLIS = 1_000;
+    private static final long RECONNECT_MILLIS = 5_000;
+    private static final long MIN_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final boolean enabled;
+    private final long flushMillis;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectionResultCache projectionResultCache;
+    private final TransactionColumnStore columnStore;
+    private final TransactionArchive transactionArchive;
+
+    private final String origin = UUID.randomUUID().toString();
+    private final BlockingQueue<String> outbox;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final Counter sent;
+    private final Counter received;
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+    private Thread senderThread;
+
+    public CacheInvalidationBus(
+            @Value("${cache-invalidation.enabled:true}") boolean enabled,
+            @Value("${cache-invalidation.flush-millis:50}") long flushMillis,
+            @Value("${cache-invalidation.queue-capacity:100000}") int queueCapacity,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            TransactionJdbcRepository transactionJdbcRepository,
+            ApplicationEventPublisher eventPublisher,
+            ProjectionResultCache projectionResultCache,
+            TransactionColumnStore columnStore,
+            TransactionArchive transactionArchive,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.flushMillis = flushMillis;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.transactionJdbcRepository = transactionJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.projectionResultCache = projectionResultCache;
+        this.columnStore = columnStore;
+        this.transactionArchive = transactionArchive;
+        this.outbox = new LinkedBlockingQueue<>(queueCapacity);
+        this.sent = meterRegistry.counter("cache.invalidation.notifications", "direction", "sent");
+        this.received = meterRegistry.counter("cache.invalidation.notifications", "direction", "received");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        senderThread = Thread.ofVirtual().name("cache-invalidation-sender").start(this::sendLoop);
+        listenerThread = Thread.ofVirtual().name("cache-invalidation-listener").start(this::listenLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (senderThread != null) {
+            senderThread.interrupt();
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        enqueue("t" + code(event.change()) + event.id());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        enqueue("a" + code(event.change()) + event.id());
+    }
+
+    // Resets caches and the snapshot here and on every other instance, for writes that bypass the service events (e.g. CSV import)
+    public void invalidateEverywhere() {
+        resetLocalState();
+        if (running) {
+            overflowed.set(true);
+            outbox.offer(RESET);
+        }
+    }
+
+    private void enqueue(String entry) {
+        // Events replayed from other instances must not be sent back
+        if (!running || Thread.currentThread() == listenerThread) {
+            return;
+        }
+        if (!outbox.offer(entry)) {
+            overflowed.set(true);
+        }
+    }
+
+    private void sendLoop() {
+        List<String> batch = new ArrayList<>();
+        // Doubles after every failed publish so a database outage is not retried in a tight loop
+        long backoffMillis = 0;
+        while (running) {
+            try {
+                batch.add(outbox.take());
+                // Let a write burst accumulate so it leaves in as few notifications as possible
+                Thread.sleep(Math.max(flushMillis, backoffMillis));
+                outbox.drainTo(batch);
+                if (overflowed.getAndSet(false)) {
+                    publish(RESET);
+                } else {
+                    sendBatched(batch);
+                }
+                backoffMillis = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                backoffMillis = backoffMillis == 0 ? MIN_BACKOFF_MILLIS : Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+                log.warn("Failed to publish {} cache invalidations, resetting peers in {} ms",
+                        batch.size(), Math.max(flushMillis, backoffMillis), e);
+                overflowed.set(true);
+                outbox.offer(RESET);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatched(List<String> batch) {
+        StringBuilder payload = new StringBuilder();
+        for (String entry : batch) {
+            if (RESET.equals(entry)) {
+                continue;
+            }
+            if (!payload.isEmpty() && payload.length() + entry.length() + 1 > MAX_PAYLOAD_CHARS - origin.length()) {
+                publish(payload.toString());
+                payload.setLength(0);
+            }
+            if (!payload.isEmpty()) {
+                payload.append(',');
+            }
+            payload.append(entry);
+        }
+        if (!payload.isEmpty()) {
+            publish(payload.toString());
+        }
+    }
+
+    private void publish(String entries) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {}, CHANNEL, origin + "|" + entries);
+        sent.increment();
+    }
+
+    private void listenLoop() {
+        listenerThread = Thread.currentThread();
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnect) {
+                    log.info("Cache invalidation listener reconnected, clearing local caches and reloading the snapshot");
+                    resetLocalState();
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms", RECONNECT_MILLIS, e);
+                reconnect = true;
+                try {
+                    Thread.sleep(RECONNECT_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            apply(payload);
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply cache invalidation, clearing local caches and reloading the snapshot", e);
+            resetLocalState();
+        }
+    }
+
+    private void apply(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.substring(0, separator).equals(origin)) {
+            return;
+        }
+        received.increment();
+        String entries = payload.substring(separator + 1);
+        if (RESET.equals(entries)) {
+            resetLocalState();
+            return;
+        }
+
+        List<String> changes = List.of(entries.split(","));
+        List<Long> changedTransactionIds = changes.stream()
+                .filter(entry -> entry.charAt(0) == 't' && isUpsert(entry.charAt(1)))
+                .map(entry -> Long.parseLong(entry.substring(2)))
+                .toList();
+
+        // Events are published inside a transaction so the after-commit listeners fire
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, TransactionChangedEvent> rows = new HashMap<>();
+            if (!changedTransactionIds.isEmpty()) {
+                transactionJdbcRepository.findByIds(changedTransactionIds)
+                        .forEach(row -> rows.put(row.id(), row));
+            }
+            for (String entry : changes) {
+                ChangeType change = change(entry.charAt(1));
+                long id = Long.parseLong(entry.substring(2));
+                if (entry.charAt(0) == 'a') {
+                    eventPublisher.publishEvent(new AccountChangedEvent(change, id));
+                } else if (change == ChangeType.DELETED) {
+                    eventPublisher.publishEvent(TransactionChangedEvent.deleted(id));
+                } else if (change == ChangeType.ARCHIVED) {
+                    eventPublisher.publishEvent(TransactionChangedEvent.archived(id));
+                } else if (rows.containsKey(id)) {
+                    // A row missing here was deleted since; its DELETED entry follows
+                    eventPublisher.publishEvent(rows.get(id).withChange(change));
+                }
+            }
+        });
+    }
+
+    // For changes this instance may have missed: nothing cached or snapshotted can be trusted
+    private void resetLocalState() {
+        projectionResultCache.invalidateAll();
+        columnStore.reload();
+        transactionArchive.invalidateSegments();
+    }
+
+    private static boolean isUpsert(char code) {
+        return code == 'C' || code == 'U';
+    }
+
+    private static char code(ChangeType change) {
+        return switch (change) {
+            case CREATED -> 'C';
+            case UPDATED -> 'U';
+            case DELETED -> 'D';
+            case ARCHIVED -> 'A';
+        };
+    }
+
+    private static ChangeType change(char code) {
+        return switch (code) {
+            case 'C' -> ChangeType.CREATED;
+            case 'U' -> ChangeType.UPDATED;
+            case 'D' -> ChangeType.DELETED;
+            case 'A' -> ChangeType.ARCHIVED;
+            default -> throw new IllegalArgumentException("Unknown change code " + code);
+        };
+    }
+}
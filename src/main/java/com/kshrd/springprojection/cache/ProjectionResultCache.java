@@ -0,0 +1,182 @@
+package com.kshrd.springprojection.cache;
+
+import com.kshrd.springprojection.dto.projection.TransactionSummary;
+import com.kshrd.springprojection.dto.projection.TransactionSummaryDto;
+import com.kshrd.springprojection.dto.projection.TransactionWithAccount;
+import com.kshrd.springprojection.dto.projection.TransactionWithAccountDto;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.event.AccountChangedEvent;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import com.kshrd.springprojection.money.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches dynamic projection results per (amount, projection) as immutable records.
+ * Every committed write bumps a global version; an entry is only served while its
+ * version is current, so a result computed concurrently with a write is never reused.
+ * Total size is bounded by an estimated byte budget with LRU eviction.
+ */
+@Component
+public class ProjectionResultCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long ROW_OVERHEAD_BYTES = 136;
+    private static final long ACCOUNT_OVERHEAD_BYTES = 104;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final AtomicLong version = new AtomicLong();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProjectionResultCache(
+            @Value("${transactions.projection-cache.enabled:true}") boolean enabled,
+            @Value("${transactions.projection-cache.max-bytes:67108864}") long maxBytes,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.hits = meterRegistry.counter("projection.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("projection.cache.requests", "result", "miss");
+        Gauge.builder("projection.cache.bytes", this, ProjectionResultCache::estimatedBytes)
+                .register(meterRegistry);
+    }
+
+    public <T> List<T> get(Money amount, Class<T> type, Supplier<List<T>> loader) {
+        if (!enabled || (type != TransactionSummary.class && type != TransactionWithAccount.class)) {
+            return loader.get();
+        }
+
+        Key key = new Key(amount, type);
+        // Read the version before querying: a write committing meanwhile makes this result stale on arrival
+        long loadVersion = version.get();
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version() == loadVersion) {
+                hits.increment();
+                return cast(entry.rows());
+            }
+        }
+
+        misses.increment();
+        List<T> loaded = loader.get();
+        List<?> compact = compact(loaded, type);
+        long bytes = ENTRY_OVERHEAD_BYTES + estimate(compact);
+
+        if (bytes <= maxBytes / 4) {
+            synchronized (this) {
+                if (loadVersion == version.get()) {
+                    put(key, new Entry(loadVersion, compact, bytes));
+                }
+            }
+        }
+        return cast(compact);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        invalidateAll();
+    }
+
+    // WITH_ACCOUNT projections embed the holder name; a new account appears in no cached result yet
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (event.change() != ChangeType.CREATED) {
+            invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        synchronized (this) {
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    // Incremented by every committed write, also when caching is disabled
+    public long version() {
+        return version.get();
+    }
+
+    public synchronized long estimatedBytes() {
+        return totalBytes;
+    }
+
+    private void put(Key key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalBytes -= previous.bytes();
+        }
+        totalBytes += entry.bytes();
+
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().bytes();
+            eldest.remove();
+        }
+    }
+
+    private static List<?> compact(List<?> rows, Class<?> type) {
+        if (type == TransactionSummary.class) {
+            return rows.stream()
+                    .map(TransactionSummary.class::cast)
+                    .map(row -> new TransactionSummaryDto(row.getId(), row.getAmount(), row.getType()))
+                    .toList();
+        }
+        return rows.stream()
+                .map(TransactionWithAccount.class::cast)
+                .map(row -> new TransactionWithAccountDto(
+                        row.getId(),
+                        row.getAmount(),
+                        row.getType(),
+                        row.getAccount() == null ? null : new TransactionWithAccountDto.AccountViewDto(
+                                row.getAccount().getAccountNumber(),
+                                row.getAccount().getHolderName()
+                        )
+                ))
+                .toList();
+    }
+
+    private static long estimate(List<?> rows) {
+        long bytes = 16L + 8L * rows.size();
+        for (Object row : rows) {
+            bytes += ROW_OVERHEAD_BYTES;
+            if (row instanceof TransactionWithAccountDto withAccount && withAccount.account() != null) {
+                bytes += ACCOUNT_OVERHEAD_BYTES
+                        + length(withAccount.account().accountNumber())
+                        + length(withAccount.account().holderName());
+            }
+        }
+        return bytes;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<?> rows) {
+        return (List<T>) rows;
+    }
+
+    private record Key(Money amount, Class<?> type) {}
+
+    private record Entry(long version, List<?> rows, long bytes) {}
+}
@@ -0,0 +1,106 @@
+package com.kshrd.springprojection.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for read-only service calls: while a call for an (operation, arguments) pair
+ * is running, identical calls wait for it and share its result or exception instead of
+ * querying again. Nothing is kept after the call finishes. The key includes the global write
+ * version, so a caller arriving after a committed write never joins a query started before it.
+ * Results are shared between threads and must not be mutated by callers.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final boolean enabled;
+    private final ProjectionResultCache projectionResultCache;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(
+            @Value("${request-coalescing.enabled:true}") boolean enabled,
+            ProjectionResultCache projectionResultCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.projectionResultCache = projectionResultCache;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("coalescing.inflight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    public <T> T execute(String operation, Supplier<T> loader, Object... arguments) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(operation, Arrays.asList(arguments), projectionResultCache.version());
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, call);
+        Stats operationStats = stats.computeIfAbsent(operation, this::register);
+
+        if (running != null) {
+            operationStats.followers.increment();
+            return await(running);
+        }
+
+        operationStats.leaders.increment();
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(CompletableFuture<Object> running) {
+        try {
+            return (T) running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Stats register(String operation) {
+        Counter leaders = meterRegistry.counter("coalescing.calls", "operation", operation, "role", "leader");
+        Counter followers = meterRegistry.counter("coalescing.calls", "operation", operation, "role", "follower");
+        Stats operationStats = new Stats(leaders, followers);
+        // Share of calls answered by another caller's query since startup
+        Gauge.builder("coalescing.collapse.ratio", operationStats, Stats::collapseRatio)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return operationStats;
+    }
+
+    private record Key(String operation, List<?> arguments, long version) {}
+
+    private record Stats(Counter leaders, Counter followers) {
+        double collapseRatio() {
+            double total = leaders.count() + followers.count();
+            return total == 0 ? 0 : followers.count() / total;
+        }
+    }
+}
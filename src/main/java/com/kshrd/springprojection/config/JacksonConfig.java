@@ -0,0 +1,16 @@
+package com.kshrd.springprojection.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JacksonConfig {
+
+    // Picked up by Boot's JsonMapper auto-configuration. Replaces reflective getter
+    // calls on APIResponse, PagedResponse and projection proxies with generated lambdas.
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -1,13 +1,23 @@
 package com.kshrd.springprojection.config;
 
+import com.kshrd.springprojection.money.Money;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.math.BigDecimal;
+
 @Configuration
 public class OpenApiConfig {
 
+    static {
+        // Money is serialized as a plain decimal number, not as its minorUnits component
+        SpringDocUtils.getConfig().replaceWithSchema(Money.class, new NumberSchema().example(new BigDecimal("125.50")));
+    }
+
     @Bean
     public OpenAPI baseOpenAPI() {
         return new OpenAPI()
@@ -0,0 +1,20 @@
+package com.kshrd.springprojection.config;
+
+import com.kshrd.springprojection.profiling.ProfilingAdvisingPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// JFR call events around repositories and services; see the profiling package
+@Configuration
+public class ProfilingConfig {
+
+    @Bean
+    static ProfilingAdvisingPostProcessor repositoryProfilingPostProcessor() {
+        return ProfilingAdvisingPostProcessor.forRepositories();
+    }
+
+    @Bean
+    static ProfilingAdvisingPostProcessor serviceProfilingPostProcessor() {
+        return ProfilingAdvisingPostProcessor.forServices();
+    }
+}
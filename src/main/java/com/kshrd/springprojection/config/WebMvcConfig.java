@@ -0,0 +1,26 @@
+package com.kshrd.springprojection.config;
+
+import com.kshrd.springprojection.admission.AdmissionControlInterceptor;
+import com.kshrd.springprojection.profiling.SerializationProfilingInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+    private final SerializationProfilingInterceptor serializationProfilingInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // The SSE stream is long-lived and would pin a concurrency slot for its whole lifetime
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/v1/transactions/stream");
+        registry.addInterceptor(serializationProfilingInterceptor)
+                .addPathPatterns("/api/**");
+    }
+}
@@ -1,16 +1,25 @@
 package com.kshrd.springprojection.controller;
 
 import com.kshrd.springprojection.dto.baseResponse.APIResponse;
+import com.kshrd.springprojection.dto.baseResponse.PagedResponse;
+import com.kshrd.springprojection.dto.projection.AccountSummary;
+import com.kshrd.springprojection.dto.request.AccountPatchRequest;
 import com.kshrd.springprojection.dto.request.AccountRequest;
 import com.kshrd.springprojection.dto.response.AccountResponse;
+import com.kshrd.springprojection.enumeration.SearchMode;
 import com.kshrd.springprojection.service.AccountService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,6 +53,75 @@ public class AccountController {
         );
     }
 
+    @Operation(
+            summary = "Get accounts by IDs",
+            description = """
+                Fetches up to 1000 accounts in a single query, in the order the IDs were given.
+                IDs that do not exist are skipped.
+                """,
+            tags = {"Account"}
+    )
+    @GetMapping(params = "ids")
+    public ResponseEntity<APIResponse<List<AccountSummary>>> getByIds(
+            @Parameter(description = "Comma-separated account IDs", example = "1,2,3")
+            @RequestParam List<Long> ids
+    ) {
+        return buildResponse(
+                "Fetched accounts by IDs",
+                accountService.getByIds(ids),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Get paginated accounts",
+            description = "Returns accounts using pagination and projection, ordered by ID. Page numbers start from 1.",
+            tags = {"Account"}
+    )
+    @GetMapping("/paged")
+    public ResponseEntity<APIResponse<PagedResponse<Page<AccountSummary>>>> getPaged(
+            @Parameter(description = "Page number starting from 1", example = "1")
+            @RequestParam(defaultValue = "1") @Min(1) Integer page,
+
+            @Parameter(description = "Page size (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer size
+    ) {
+        return buildResponse(
+                "Fetched accounts",
+                accountService.getPaged(page, size),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Search accounts",
+            description = """
+                Case-insensitive prefix or substring search on holder name and account number,
+                backed by trigram indexes. Page numbers start from 1.
+                """,
+            tags = {"Account"}
+    )
+    @GetMapping("/search")
+    public ResponseEntity<APIResponse<PagedResponse<Page<AccountSummary>>>> search(
+            @Parameter(description = "Search text (at least 3 characters)", example = "sokha")
+            @RequestParam String q,
+
+            @Parameter(description = "Match mode", example = "CONTAINS")
+            @RequestParam(defaultValue = "CONTAINS") SearchMode mode,
+
+            @Parameter(description = "Page number starting from 1", example = "1")
+            @RequestParam(defaultValue = "1") @Min(1) Integer page,
+
+            @Parameter(description = "Page size (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer size
+    ) {
+        return buildResponse(
+                "Fetched matching accounts",
+                accountService.search(q, mode, page, size),
+                HttpStatus.OK
+        );
+    }
+
     @Operation(
             summary = "Get account by ID",
             description = "Retrieves a single account by its ID.",
@@ -82,6 +160,29 @@ public class AccountController {
         );
     }
 
+    @Operation(
+            summary = "Create accounts in batch",
+            description = """
+                Creates up to 1000 accounts at once, generating account numbers
+                and inserting them in a single JDBC batch.
+                """,
+            tags = {"Account"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Accounts created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request payload")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<APIResponse<List<AccountResponse>>> createAll(
+            @RequestBody @Valid List<@Valid AccountRequest> reqs
+    ) {
+        return buildResponse(
+                "Accounts created",
+                accountService.createAll(reqs),
+                HttpStatus.CREATED
+        );
+    }
+
     @Operation(
             summary = "Update account by ID",
             description = "Updates an existing account identified by its ID.",
@@ -105,6 +206,29 @@ public class AccountController {
         );
     }
 
+    @Operation(
+            summary = "Partially update account by ID",
+            description = "Applies only the supplied fields with a single UPDATE ... RETURNING statement.",
+            tags = {"Account"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Account updated successfully",
+                    content = @Content(schema = @Schema(implementation = AccountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request payload"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<APIResponse<AccountResponse>> patch(
+            @PathVariable Long id,
+            @RequestBody @Valid AccountPatchRequest req
+    ) {
+        return buildResponse(
+                "Account updated",
+                accountService.patch(id, req),
+                HttpStatus.OK
+        );
+    }
+
     @Operation(
             summary = "Delete account by ID",
             description = "Deletes an account permanently by its ID.",
@@ -0,0 +1,50 @@
+package com.kshrd.springprojection.controller;
+
+import com.kshrd.springprojection.dto.baseResponse.APIResponse;
+import com.kshrd.springprojection.dto.response.StatementRunResponse;
+import com.kshrd.springprojection.service.StatementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+import static com.kshrd.springprojection.utils.ResponseUtil.buildResponse;
+
+@RestController
+@RequestMapping("/api/v1/statements")
+@RequiredArgsConstructor
+@Tag(
+        name = "Statement",
+        description = "Endpoints for generating monthly account statements."
+)
+public class StatementController {
+
+    private final StatementService statementService;
+
+    @Operation(
+            summary = "Generate monthly statements",
+            description = """
+                Writes one statement line per account for the given month (opening balance, count and total
+                per transaction type, closing balance) into CSV files under the statements directory.
+                Accounts are split across parallel workers; the response reports accounts and transactions per second.
+                """,
+            tags = {"Statement"}
+    )
+    @PostMapping
+    public ResponseEntity<APIResponse<StatementRunResponse>> generate(
+            @Parameter(description = "Statement month", example = "2025-01")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        return buildResponse(
+                "Generated statements for " + month,
+                statementService.generate(month),
+                HttpStatus.OK
+        );
+    }
+}
@@ -2,15 +2,30 @@ package com.kshrd.springprojection.controller;
 
 import com.kshrd.springprojection.dto.baseResponse.APIResponse;
 import com.kshrd.springprojection.dto.baseResponse.PagedResponse;
+import com.kshrd.springprojection.dto.projection.AccountTotalDto;
+import com.kshrd.springprojection.dto.projection.DashboardDto;
+import com.kshrd.springprojection.dto.projection.TimeBucketDto;
 import com.kshrd.springprojection.dto.projection.TransactionSummary;
 import com.kshrd.springprojection.dto.projection.TransactionWithAccount;
+import com.kshrd.springprojection.dto.projection.TypeTotalDto;
+import com.kshrd.springprojection.dto.request.BulkTypeUpdateRequest;
+import com.kshrd.springprojection.dto.request.ImportRequest;
+import com.kshrd.springprojection.dto.request.TransactionPatchRequest;
 import com.kshrd.springprojection.dto.request.TransactionRequest;
+import com.kshrd.springprojection.dto.request.TransactionStreamFilter;
+import com.kshrd.springprojection.dto.request.TransferRequest;
+import com.kshrd.springprojection.dto.response.BulkOperationResponse;
+import com.kshrd.springprojection.dto.response.ImportStatusResponse;
 import com.kshrd.springprojection.dto.response.TransactionResponse;
+import com.kshrd.springprojection.dto.response.TransferResponse;
 import com.kshrd.springprojection.enumeration.ProjectionType;
+import com.kshrd.springprojection.enumeration.TimeBucket;
 import com.kshrd.springprojection.enumeration.TransactionProperty;
 import com.kshrd.springprojection.enumeration.TransactionType;
 import com.kshrd.springprojection.exception.BadRequestException;
+import com.kshrd.springprojection.service.TransactionImportService;
 import com.kshrd.springprojection.service.TransactionService;
+import com.kshrd.springprojection.service.TransactionStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,14 +34,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.kshrd.springprojection.utils.ResponseUtil.buildResponse;
@@ -40,6 +63,31 @@ import static com.kshrd.springprojection.utils.ResponseUtil.buildResponse;
 )
 public class TransactionController {
     private final TransactionService transactionService;
+    private final TransactionStreamService transactionStreamService;
+    private final TransactionImportService transactionImportService;
+
+    @Operation(
+            summary = "Stream transaction changes (SSE)",
+            description = """
+                Pushes created, updated and deleted transactions as server-sent events once the change commits.
+                Optional filters narrow created/updated events; deleted events only carry the ID and are always sent.
+                Clients that fall behind by more than the per-client buffer are disconnected and should reconnect.
+                """,
+            tags = {"Transaction"}
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(description = "Only stream this transaction type")
+            @RequestParam(required = false) TransactionType type,
+
+            @Parameter(description = "Only stream transactions of this account")
+            @RequestParam(required = false) Long accountId,
+
+            @Parameter(description = "Only stream transactions with at least this amount (0-999999999999999.99)")
+            @RequestParam(required = false) @DecimalMin("0") @DecimalMax("999999999999999.99") BigDecimal minAmount
+    ) {
+        return transactionStreamService.subscribe(TransactionStreamFilter.of(type, accountId, minAmount));
+    }
 
     @Operation(
             summary = "Get transactions by type (nested projection)",
@@ -115,6 +163,154 @@ public class TransactionController {
         );
     }
 
+    @Operation(
+            summary = "Get transactions in a time range",
+            description = """
+                Returns transactions oldest first, reading archived segments when the range reaches past the
+                hot table's retention period. Defaults to the last 30 days when no time window is given.
+                """,
+            tags = {"Transaction"}
+    )
+    @GetMapping("/history")
+    public ResponseEntity<APIResponse<List<TransactionSummary>>> getHistory(
+            @Parameter(description = "Window start (inclusive, ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Window end (exclusive, ISO date-time)", example = "2025-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            @Parameter(description = "Maximum number of rows (1-10000)", example = "100")
+            @RequestParam(defaultValue = "100") Integer limit
+    ) {
+        return buildResponse(
+                "Fetched transaction history",
+                transactionService.getHistory(from, to, limit),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Get dashboard statistics",
+            description = """
+                Returns the number of transactions, their total amount and the deposit/withdrawal counts
+                over the live table (archived rows are not included). Identical concurrent requests share
+                a single query.
+                """,
+            tags = {"Transaction"}
+    )
+    @GetMapping("/stats/dashboard")
+    public ResponseEntity<APIResponse<DashboardDto>> getDashboardStats() {
+        return buildResponse(
+                "Fetched dashboard statistics",
+                transactionService.getDashboardStats(),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Get totals by transaction type",
+            description = """
+                Returns count and total amount grouped by transaction type, aggregated in the database.
+                Defaults to the last 30 days when no time window is given.
+                """,
+            tags = {"Transaction"}
+    )
+    @GetMapping("/stats/type")
+    public ResponseEntity<APIResponse<List<TypeTotalDto>>> getTotalsByType(
+            @Parameter(description = "Window start (inclusive, ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Window end (exclusive, ISO date-time)", example = "2025-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return buildResponse(
+                "Fetched totals by type",
+                transactionService.getTotalsByType(from, to),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Get totals by account",
+            description = """
+                Returns count and total amount per account within the time window, paginated.
+                Uses 1-based page indexing from the client side. Archived transactions are excluded,
+                so a window that reaches the archive is rejected with 400.
+                """,
+            tags = {"Transaction"}
+    )
+    @GetMapping("/stats/accounts")
+    public ResponseEntity<APIResponse<PagedResponse<Page<AccountTotalDto>>>> getTotalsByAccount(
+            @Parameter(description = "Window start (inclusive, ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Window end (exclusive, ISO date-time)", example = "2025-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            @Parameter(description = "Page number starting from 1", example = "1")
+            @RequestParam(defaultValue = "1") @Min(1) Integer page,
+
+            @Parameter(description = "Page size (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer size
+    ) {
+        return buildResponse(
+                "Fetched totals by account",
+                transactionService.getTotalsByAccount(from, to, page, size),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Get top accounts by volume",
+            description = """
+                Returns the N accounts with the highest total amount within the time window.
+                Archived transactions are excluded, so a window that reaches the archive is rejected with 400.
+                """,
+            tags = {"Transaction"}
+    )
+    @GetMapping("/stats/accounts/top")
+    public ResponseEntity<APIResponse<List<AccountTotalDto>>> getTopAccounts(
+            @Parameter(description = "Window start (inclusive, ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Window end (exclusive, ISO date-time)", example = "2025-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            @Parameter(description = "Number of accounts to return (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit
+    ) {
+        return buildResponse(
+                "Fetched top accounts by volume",
+                transactionService.getTopAccounts(from, to, limit),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Get totals by time bucket",
+            description = """
+                Returns count and total amount per time bucket (minute, hour or day) within the time window,
+                including archived transactions. Empty buckets are omitted.
+                """,
+            tags = {"Transaction"}
+    )
+    @GetMapping("/stats/timeline")
+    public ResponseEntity<APIResponse<List<TimeBucketDto>>> getTotalsByTimeBucket(
+            @Parameter(description = "Window start (inclusive, ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Window end (exclusive, ISO date-time)", example = "2025-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            @Parameter(description = "Bucket size", example = "DAY")
+            @RequestParam(defaultValue = "DAY") TimeBucket bucket
+    ) {
+        return buildResponse(
+                "Fetched totals by time bucket",
+                transactionService.getTotalsByTimeBucket(from, to, bucket),
+                HttpStatus.OK
+        );
+    }
 
     @Operation(
             summary = "Get all transactions (Projection)",
@@ -166,6 +362,31 @@ public class TransactionController {
         );
     }
 
+    @Operation(
+            summary = "Transfer between accounts",
+            description = """
+                Moves the amount from one account to another by writing a TRANSFER_OUT leg on the source
+                and a TRANSFER_IN leg on the destination in a single database transaction.
+                """,
+            tags = {"Transaction"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Transfer completed",
+                    content = @Content(schema = @Schema(implementation = TransferResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request payload or identical accounts"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    @PostMapping("/transfer")
+    public ResponseEntity<APIResponse<TransferResponse>> transfer(
+            @RequestBody @Valid TransferRequest req
+    ) {
+        return buildResponse(
+                "Transfer completed",
+                transactionService.transfer(req),
+                HttpStatus.CREATED
+        );
+    }
+
     @Operation(
             summary = "Get transaction by ID",
             description = """
@@ -203,7 +424,8 @@ public class TransactionController {
             @ApiResponse(responseCode = "200", description = "Transaction updated successfully",
                     content = @Content(schema = @Schema(implementation = TransactionResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request payload"),
-            @ApiResponse(responseCode = "404", description = "Transaction or account not found")
+            @ApiResponse(responseCode = "404", description = "Transaction or account not found"),
+            @ApiResponse(responseCode = "409", description = "Transaction is a transfer leg")
     })
     @PutMapping("/{id}")
     public ResponseEntity<APIResponse<TransactionResponse>> update(
@@ -220,6 +442,36 @@ public class TransactionController {
         );
     }
 
+    @Operation(
+            summary = "Partially update transaction by ID",
+            description = """
+                Applies only the supplied fields (amount, type, accountId) with a single
+                UPDATE ... RETURNING statement, without loading the entity first.
+                """,
+            tags = {"Transaction"}
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transaction updated successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request payload"),
+            @ApiResponse(responseCode = "404", description = "Transaction or account not found"),
+            @ApiResponse(responseCode = "409", description = "Transaction is a transfer leg")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<APIResponse<TransactionResponse>> patch(
+            @Parameter(description = "Transaction ID", required = true)
+            @PathVariable Long id,
+
+            @Parameter(description = "Fields to update", required = true)
+            @RequestBody @Valid TransactionPatchRequest req
+    ) {
+        return buildResponse(
+                "Transaction updated",
+                transactionService.patch(id, req),
+                HttpStatus.OK
+        );
+    }
+
     @Operation(
             summary = "Delete transaction by ID",
             description = """
@@ -231,7 +483,8 @@ public class TransactionController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Transaction deleted successfully",
                     content = @Content(schema = @Schema(implementation = String.class))),
-            @ApiResponse(responseCode = "404", description = "Transaction not found")
+            @ApiResponse(responseCode = "404", description = "Transaction not found"),
+            @ApiResponse(responseCode = "409", description = "Transaction is a transfer leg")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<APIResponse<String>> delete(
@@ -246,4 +499,117 @@ public class TransactionController {
         );
     }
 
+    @Operation(
+            summary = "Delete transactions by IDs",
+            description = """
+                Deletes up to 10000 transactions with set-based DELETE statements in chunks of 1000.
+                Returns the number of rows actually deleted, or 409 if any ID is a transfer leg.
+                """,
+            tags = {"Transaction"}
+    )
+    @DeleteMapping(value = "/bulk", params = "ids")
+    public ResponseEntity<APIResponse<BulkOperationResponse>> deleteByIds(
+            @Parameter(description = "Comma-separated transaction IDs", example = "1,2,3")
+            @RequestParam List<Long> ids
+    ) {
+        return buildResponse(
+                "Transactions deleted",
+                transactionService.deleteByIds(ids),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Delete all transactions of an account",
+            description = "Deletes the account's transactions in chunks of 1000, each committed separately.",
+            tags = {"Transaction"}
+    )
+    @DeleteMapping("/bulk/account/{accountId}")
+    public ResponseEntity<APIResponse<BulkOperationResponse>> deleteByAccount(
+            @Parameter(description = "Account ID", required = true)
+            @PathVariable Long accountId
+    ) {
+        return buildResponse(
+                "Transactions deleted",
+                transactionService.deleteByAccount(accountId),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Delete transactions in a time range",
+            description = "Deletes transactions with from <= timestamp < to in chunks of 1000, each committed separately.",
+            tags = {"Transaction"}
+    )
+    @DeleteMapping(value = "/bulk", params = {"from", "to"})
+    public ResponseEntity<APIResponse<BulkOperationResponse>> deleteByTimeRange(
+            @Parameter(description = "Range start (inclusive, ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Range end (exclusive, ISO date-time)", example = "2025-02-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return buildResponse(
+                "Transactions deleted",
+                transactionService.deleteByTimeRange(from, to),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Correct the type of many transactions",
+            description = """
+                Sets the type of up to 10000 transactions with set-based UPDATE statements in chunks of 1000.
+                Rows that already have the requested type are not counted; 409 if any ID is a transfer leg.
+                """,
+            tags = {"Transaction"}
+    )
+    @PatchMapping("/bulk/type")
+    public ResponseEntity<APIResponse<BulkOperationResponse>> updateType(
+            @RequestBody @Valid BulkTypeUpdateRequest req
+    ) {
+        return buildResponse(
+                "Transaction types updated",
+                transactionService.updateType(req),
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Import historical transactions from CSV",
+            description = """
+                Starts a background import of a CSV file (account_id,amount,type,timestamp) from the
+                server's import directory. The file is parsed and validated in parallel and loaded with
+                PostgreSQL COPY; invalid rows are skipped and reported. Running the same file again
+                resumes after the chunks already committed.
+                """,
+            tags = {"Transaction"}
+    )
+    @PostMapping("/import")
+    public ResponseEntity<APIResponse<ImportStatusResponse>> startImport(
+            @RequestBody @Valid ImportRequest req
+    ) {
+        return buildResponse(
+                "Import started",
+                transactionImportService.start(req),
+                HttpStatus.ACCEPTED
+        );
+    }
+
+    @Operation(
+            summary = "Get import progress",
+            description = "Returns bytes processed, rows imported and rejected, and the current rows/second rate.",
+            tags = {"Transaction"}
+    )
+    @GetMapping("/import/{id}")
+    public ResponseEntity<APIResponse<ImportStatusResponse>> getImportStatus(
+            @Parameter(description = "Import ID", required = true)
+            @PathVariable String id
+    ) {
+        return buildResponse(
+                "Import status fetched",
+                transactionImportService.getStatus(id),
+                HttpStatus.OK
+        );
+    }
 }
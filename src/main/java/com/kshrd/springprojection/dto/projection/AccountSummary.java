@@ -0,0 +1,7 @@
+package com.kshrd.springprojection.dto.projection;
+
+public interface AccountSummary {
+    Long getId();
+    String getAccountNumber();
+    String getHolderName();
+}
@@ -0,0 +1,9 @@
+package com.kshrd.springprojection.dto.projection;
+
+public interface AccountTotal {
+    Long getAccountId();
+    String getAccountNumber();
+    String getHolderName();
+    Long getCount();
+    Long getTotalAmountMinorUnits();
+}
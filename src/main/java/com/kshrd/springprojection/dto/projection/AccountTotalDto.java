@@ -0,0 +1,16 @@
+package com.kshrd.springprojection.dto.projection;
+
+import com.kshrd.springprojection.money.Money;
+
+public record AccountTotalDto(
+        Long accountId,
+        String accountNumber,
+        String holderName,
+        long count,
+        Money totalAmount
+) {
+    // Built from the native aggregates, which sum in minor units
+    public AccountTotalDto(Long accountId, String accountNumber, String holderName, long count, long totalAmountMinorUnits) {
+        this(accountId, accountNumber, holderName, count, Money.ofMinorUnits(totalAmountMinorUnits));
+    }
+}
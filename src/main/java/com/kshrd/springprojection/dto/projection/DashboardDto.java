@@ -1,11 +1,15 @@
 package com.kshrd.springprojection.dto.projection;
 
-import java.math.BigDecimal;
+import com.kshrd.springprojection.money.Money;
 
 public record DashboardDto(
         long totalTransactions,
-        BigDecimal totalAmount,
+        Money totalAmount,
         long depositCount,
         long withdrawalCount
 ) {
+    // Built from the native aggregate, which sums in minor units
+    public DashboardDto(long totalTransactions, long totalAmountMinorUnits, long depositCount, long withdrawalCount) {
+        this(totalTransactions, Money.ofMinorUnits(totalAmountMinorUnits), depositCount, withdrawalCount);
+    }
 }
@@ -0,0 +1,8 @@
+package com.kshrd.springprojection.dto.projection;
+
+public interface DashboardTotals {
+    Long getTotalTransactions();
+    Long getTotalAmountMinorUnits();
+    Long getDepositCount();
+    Long getWithdrawalCount();
+}
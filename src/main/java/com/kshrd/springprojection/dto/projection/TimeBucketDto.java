@@ -0,0 +1,12 @@
+package com.kshrd.springprojection.dto.projection;
+
+import com.kshrd.springprojection.money.Money;
+
+import java.time.LocalDateTime;
+
+public record TimeBucketDto(
+        LocalDateTime bucketStart,
+        long count,
+        Money totalAmount
+) {
+}
@@ -0,0 +1,7 @@
+package com.kshrd.springprojection.dto.projection;
+
+public interface TimeBucketTotal {
+    Long getBucketStart();
+    Long getCount();
+    Long getTotalAmountMinorUnits();
+}
@@ -1,9 +1,9 @@
 package com.kshrd.springprojection.dto.projection;
 
-import java.math.BigDecimal;
+import com.kshrd.springprojection.money.Money;
 
 public interface TransactionSummary {
     Long getId();
-    BigDecimal getAmount();
+    Money getAmount();
     String getType();
 }
@@ -0,0 +1,26 @@
+package com.kshrd.springprojection.dto.projection;
+
+import com.kshrd.springprojection.money.Money;
+
+// Materialized TransactionSummary for results that do not come from a Spring Data proxy.
+public record TransactionSummaryDto(
+        Long id,
+        Money amount,
+        String type
+) implements TransactionSummary {
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Money getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+}
@@ -1,10 +1,10 @@
 package com.kshrd.springprojection.dto.projection;
 
-import java.math.BigDecimal;
+import com.kshrd.springprojection.money.Money;
 
 public interface TransactionWithAccount {
     Long getId();
-    BigDecimal getAmount();
+    Money getAmount();
     String getType();
     AccountView getAccount();
 
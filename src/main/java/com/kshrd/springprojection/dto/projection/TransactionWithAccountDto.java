@@ -0,0 +1,48 @@
+package com.kshrd.springprojection.dto.projection;
+
+import com.kshrd.springprojection.money.Money;
+
+// Materialized TransactionWithAccount for results that do not come from a Spring Data proxy.
+public record TransactionWithAccountDto(
+        Long id,
+        Money amount,
+        String type,
+        AccountViewDto account
+) implements TransactionWithAccount {
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Money getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public AccountView getAccount() {
+        return account;
+    }
+
+    public record AccountViewDto(
+            String accountNumber,
+            String holderName
+    ) implements AccountView {
+
+        @Override
+        public String getAccountNumber() {
+            return accountNumber;
+        }
+
+        @Override
+        public String getHolderName() {
+            return holderName;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.kshrd.springprojection.dto.projection;
+
+public interface TypeTotal {
+    String getType();
+    Long getCount();
+    Long getTotalAmountMinorUnits();
+}
@@ -0,0 +1,14 @@
+package com.kshrd.springprojection.dto.projection;
+
+import com.kshrd.springprojection.money.Money;
+
+public record TypeTotalDto(
+        String type,
+        long count,
+        Money totalAmount
+) {
+    // Built from the native aggregate, which sums in minor units
+    public TypeTotalDto(String type, long count, long totalAmountMinorUnits) {
+        this(type, count, Money.ofMinorUnits(totalAmountMinorUnits));
+    }
+}
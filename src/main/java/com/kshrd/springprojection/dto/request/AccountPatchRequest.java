@@ -0,0 +1,11 @@
+package com.kshrd.springprojection.dto.request;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+// Every field is optional; only the supplied ones are written
+public record AccountPatchRequest(
+        @Pattern(regexp = ".*\\S.*", message = "Holder name cannot be blank")
+        @Size(max = 100, message = "Holder name cannot exceed 100 characters")
+        String holderName
+) {}
@@ -0,0 +1,18 @@
+package com.kshrd.springprojection.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkTypeUpdateRequest(
+        @NotEmpty(message = "IDs cannot be empty")
+        @Size(max = 10000, message = "At most 10000 IDs are allowed per request")
+        List<Long> ids,
+
+        @NotBlank(message = "Type cannot be blank")
+        @Pattern(regexp = "DEPOSIT|WITHDRAWAL", message = "Type must be DEPOSIT or WITHDRAWAL")
+        String type
+) {}
@@ -0,0 +1,8 @@
+package com.kshrd.springprojection.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ImportRequest(
+        @NotBlank(message = "File name cannot be blank")
+        String fileName
+) {}
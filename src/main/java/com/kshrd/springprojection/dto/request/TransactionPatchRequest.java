@@ -0,0 +1,19 @@
+package com.kshrd.springprojection.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Pattern;
+
+import java.math.BigDecimal;
+
+// Every field is optional; only the supplied ones are written
+public record TransactionPatchRequest(
+        @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0")
+        @Digits(integer = 15, fraction = 2, message = "Amount must have at most 15 digits and 2 decimal places")
+        BigDecimal amount,
+
+        @Pattern(regexp = "DEPOSIT|WITHDRAWAL", message = "Type must be DEPOSIT or WITHDRAWAL")
+        String type,
+
+        Long accountId
+) {}
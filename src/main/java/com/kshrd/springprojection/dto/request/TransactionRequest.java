@@ -1,6 +1,7 @@
 package com.kshrd.springprojection.dto.request;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -10,6 +11,7 @@ import java.math.BigDecimal;
 public record TransactionRequest(
         @NotNull(message = "Amount cannot be null")
         @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0")
+        @Digits(integer = 15, fraction = 2, message = "Amount must have at most 15 digits and 2 decimal places")
         BigDecimal amount,
 
         @NotBlank(message = "Type cannot be blank")
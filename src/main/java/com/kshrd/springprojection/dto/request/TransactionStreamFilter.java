@@ -0,0 +1,36 @@
+package com.kshrd.springprojection.dto.request;
+
+import com.kshrd.springprojection.enumeration.TransactionType;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import com.kshrd.springprojection.utils.MoneyUtil;
+
+import java.math.BigDecimal;
+
+// The threshold is converted to minor units once here, not for every event a subscriber sees.
+public record TransactionStreamFilter(
+        TransactionType type,
+        Long accountId,
+        Long minAmountMinorUnits
+) {
+    public static TransactionStreamFilter of(TransactionType type, Long accountId, BigDecimal minAmount) {
+        return new TransactionStreamFilter(
+                type,
+                accountId,
+                minAmount == null ? null : MoneyUtil.toMinorUnitsCeiling(minAmount)
+        );
+    }
+
+    // Deletes carry no fields to filter on and are always delivered.
+    public boolean matches(TransactionChangedEvent event) {
+        if (event.amount() == null) {
+            return true;
+        }
+        if (type != null && !type.name().equalsIgnoreCase(event.type())) {
+            return false;
+        }
+        if (accountId != null && !accountId.equals(event.accountId())) {
+            return false;
+        }
+        return minAmountMinorUnits == null || event.amount().minorUnits() >= minAmountMinorUnits;
+    }
+}
@@ -0,0 +1,20 @@
+package com.kshrd.springprojection.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public record TransferRequest(
+        @NotNull(message = "Source account ID cannot be null")
+        Long fromAccountId,
+
+        @NotNull(message = "Destination account ID cannot be null")
+        Long toAccountId,
+
+        @NotNull(message = "Amount cannot be null")
+        @DecimalMin(value = "0.0", inclusive = false, message = "Amount must be greater than 0")
+        @Digits(integer = 15, fraction = 2, message = "Amount must have at most 15 digits and 2 decimal places")
+        BigDecimal amount
+) {}
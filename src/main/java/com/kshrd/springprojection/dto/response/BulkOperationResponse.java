@@ -0,0 +1,7 @@
+package com.kshrd.springprojection.dto.response;
+
+public record BulkOperationResponse(
+        long affected,
+        int chunks
+) {
+}
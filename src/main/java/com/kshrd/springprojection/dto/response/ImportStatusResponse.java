@@ -0,0 +1,23 @@
+package com.kshrd.springprojection.dto.response;
+
+import com.kshrd.springprojection.enumeration.ImportState;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ImportStatusResponse(
+        String id,
+        String fileName,
+        ImportState state,
+        long totalBytes,
+        long processedBytes,
+        long rowsImported,
+        long rowsRejected,
+        int chunksSkipped,
+        double rowsPerSecond,
+        List<String> errors,
+        String failure,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
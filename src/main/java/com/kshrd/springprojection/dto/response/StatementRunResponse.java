@@ -0,0 +1,14 @@
+package com.kshrd.springprojection.dto.response;
+
+public record StatementRunResponse(
+        String month,
+        int accounts,
+        long transactions,
+        int partitions,
+        int workers,
+        long elapsedMillis,
+        double accountsPerSecond,
+        double transactionsPerSecond,
+        String directory
+) {
+}
@@ -1,14 +1,13 @@
 package com.kshrd.springprojection.dto.response;
 
-import com.kshrd.springprojection.entity.Account;
+import com.kshrd.springprojection.money.Money;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record TransactionResponse(
         Long id,
         String type,
-        BigDecimal amount,
+        Money amount,
         LocalDateTime timestamp,
         Long accountId,
         AccountResponse accountOwner
@@ -0,0 +1,10 @@
+package com.kshrd.springprojection.dto.response;
+
+import java.util.UUID;
+
+public record TransferResponse(
+        UUID transferId,
+        TransactionResponse debit,
+        TransactionResponse credit
+) {
+}
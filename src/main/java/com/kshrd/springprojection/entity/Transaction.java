@@ -1,10 +1,11 @@
 package com.kshrd.springprojection.entity;
 
+import com.kshrd.springprojection.money.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(name = "transactions")
@@ -19,12 +20,16 @@ public class Transaction {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private BigDecimal amount;
+    @Column(precision = 17, scale = 2)
+    private Money amount;
 
     private String type;
 
     private LocalDateTime timestamp;
 
+    // Shared by the debit and credit leg of a transfer, null otherwise
+    private UUID transferId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Account account;
 }
@@ -0,0 +1,15 @@
+package com.kshrd.springprojection.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ChangeType {
+    CREATED("created"),
+    UPDATED("updated"),
+    DELETED("deleted"),
+    ARCHIVED("archived");
+
+    private final String fieldName;
+}
@@ -0,0 +1,33 @@
+package com.kshrd.springprojection.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EndpointGroup {
+    BULK_READ("bulk_read"),
+    PAGED_READ("paged_read"),
+    WRITE("write"),
+    OTHER("other");
+
+    private final String fieldName;
+
+    public static EndpointGroup of(String method, String path) {
+        if (!"GET".equals(method)) {
+            return WRITE;
+        }
+        if (path.endsWith("/paged")) {
+            return PAGED_READ;
+        }
+        // Unbounded listings and threshold/type scans
+        if (path.equals("/api/v1/transactions")
+                || path.equals("/api/v1/accounts")
+                || path.startsWith("/api/v1/transactions/projection")
+                || path.startsWith("/api/v1/transactions/type")
+                || path.startsWith("/api/v1/transactions/stats")) {
+            return BULK_READ;
+        }
+        return OTHER;
+    }
+}
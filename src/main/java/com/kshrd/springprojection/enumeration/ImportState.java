@@ -0,0 +1,14 @@
+package com.kshrd.springprojection.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImportState {
+    RUNNING("running"),
+    COMPLETED("completed"),
+    FAILED("failed");
+
+    private final String fieldName;
+}
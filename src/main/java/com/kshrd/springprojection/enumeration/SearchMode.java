@@ -0,0 +1,13 @@
+package com.kshrd.springprojection.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchMode {
+    PREFIX("prefix"),
+    CONTAINS("contains");
+
+    private final String fieldName;
+}
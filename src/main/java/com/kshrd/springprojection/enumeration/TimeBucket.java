@@ -0,0 +1,15 @@
+package com.kshrd.springprojection.enumeration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TimeBucket {
+    MINUTE("minute", 60),
+    HOUR("hour", 3_600),
+    DAY("day", 86_400);
+
+    private final String fieldName;
+    private final long seconds;
+}
@@ -6,7 +6,18 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum TransactionType {
-    WITHDRAWAL("withdrawal"),
-    DEPOSIT("deposit");
+    WITHDRAWAL("withdrawal", -1),
+    DEPOSIT("deposit", 1),
+    // Single-row transfers from the seed data; the direction was never recorded, so they do not move the balance
+    TRANSFER("transfer", 0),
+    // Debit and credit legs written together by the transfer endpoint
+    TRANSFER_OUT("transfer_out", -1),
+    TRANSFER_IN("transfer_in", 1);
     private final String fieldName;
+    private final int balanceSign;
+
+    // Legs only change together, so single-row edits and deletes reject them
+    public static boolean isTransferLeg(String type) {
+        return TRANSFER_OUT.name().equals(type) || TRANSFER_IN.name().equals(type);
+    }
 }
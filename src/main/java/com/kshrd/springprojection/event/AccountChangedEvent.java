@@ -0,0 +1,10 @@
+package com.kshrd.springprojection.event;
+
+import com.kshrd.springprojection.enumeration.ChangeType;
+
+// Published by AccountServiceImpl writes; consumers that embed account data (e.g. WITH_ACCOUNT projections) evict on it.
+public record AccountChangedEvent(
+        ChangeType change,
+        Long id
+) {
+}
@@ -0,0 +1,41 @@
+package com.kshrd.springprojection.event;
+
+import com.kshrd.springprojection.entity.Transaction;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.money.Money;
+
+import java.time.LocalDateTime;
+
+// Published by TransactionServiceImpl writes, the archive job and CacheInvalidationBus (replaying other instances' writes);
+// DELETED and ARCHIVED events only carry the id.
+public record TransactionChangedEvent(
+        ChangeType change,
+        Long id,
+        Money amount,
+        String type,
+        Long accountId,
+        LocalDateTime timestamp
+) {
+    public static TransactionChangedEvent of(ChangeType change, Transaction tx) {
+        return new TransactionChangedEvent(
+                change,
+                tx.getId(),
+                tx.getAmount(),
+                tx.getType(),
+                tx.getAccount().getId(),
+                tx.getTimestamp()
+        );
+    }
+
+    public TransactionChangedEvent withChange(ChangeType change) {
+        return new TransactionChangedEvent(change, id, amount, type, accountId, timestamp);
+    }
+
+    public static TransactionChangedEvent deleted(Long id) {
+        return new TransactionChangedEvent(ChangeType.DELETED, id, null, null, null, null);
+    }
+
+    public static TransactionChangedEvent archived(Long id) {
+        return new TransactionChangedEvent(ChangeType.ARCHIVED, id, null, null, null, null);
+    }
+}
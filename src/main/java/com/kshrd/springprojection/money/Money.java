@@ -0,0 +1,75 @@
+package com.kshrd.springprojection.money;
+
+import com.kshrd.springprojection.utils.MoneyUtil;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount in long minor units (cents), used from the entity through aggregation and JSON output
+ * so hot paths compare, sum and serialize without allocating BigDecimal. Requests still arrive as
+ * validated BigDecimal and are converted exactly at the API edge with {@link #of(BigDecimal)}.
+ * Serialized as a plain JSON number with two decimals, the same shape as the BigDecimal it replaces.
+ */
+@JsonSerialize(using = MoneySerializer.class)
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    // Sign, 19 digits of Long.MAX_VALUE and the decimal point
+    static final int MAX_CHARS = 21;
+
+    // Throws ArithmeticException when the amount has more than two decimal places
+    public static Money of(BigDecimal amount) {
+        return new Money(MoneyUtil.toMinorUnits(amount));
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return MoneyUtil.fromMinorUnits(minorUnits);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        char[] text = new char[MAX_CHARS];
+        int start = format(text);
+        return new String(text, start, MAX_CHARS - start);
+    }
+
+    // Writes the same text as BigDecimal.toPlainString() at scale 2 right-aligned into a
+    // MAX_CHARS buffer and returns where it starts, so the serializer needs no String at all
+    int format(char[] text) {
+        // Digits are taken from the negated value, which also holds Long.MIN_VALUE
+        long rest = minorUnits < 0 ? minorUnits : -minorUnits;
+        int i = MAX_CHARS;
+        text[--i] = (char) ('0' - rest % 10);
+        rest /= 10;
+        text[--i] = (char) ('0' - rest % 10);
+        rest /= 10;
+        text[--i] = '.';
+        do {
+            text[--i] = (char) ('0' - rest % 10);
+            rest /= 10;
+        } while (rest < 0);
+        if (minorUnits < 0) {
+            text[--i] = '-';
+        }
+        return i;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kshrd.springprojection.money;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+// Writes the amount as a raw JSON number, e.g. 125.50, straight from a char buffer
+public class MoneySerializer extends StdSerializer<Money> {
+
+    public MoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializationContext context) throws JacksonException {
+        char[] text = new char[Money.MAX_CHARS];
+        int start = value.format(text);
+        gen.writeNumber(text, start, Money.MAX_CHARS - start);
+    }
+}
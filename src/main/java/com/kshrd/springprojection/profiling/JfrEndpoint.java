@@ -0,0 +1,112 @@
+package com.kshrd.springprojection.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/jfr}: GET returns the rolling per-operation stats and the state of the
+ * on-demand recording; POST {@code /start}, {@code /dump} and {@code /stop} control a full
+ * JFR recording (JDK "profile" settings plus the custom events) written to the recordings
+ * directory, for opening in JDK Mission Control.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final Duration maxAge;
+    private final JfrStatsCollector statsCollector;
+    private Recording recording;
+
+    public JfrEndpoint(
+            @Value("${profiling.recordings.directory:recordings}") Path directory,
+            @Value("${profiling.recordings.max-age-minutes:10}") long maxAgeMinutes,
+            JfrStatsCollector statsCollector
+    ) {
+        this.directory = directory;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.statsCollector = statsCollector;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("streaming", statsCollector.isRunning());
+        status.put("recording", recording == null ? RecordingState.CLOSED : recording.getState());
+        if (recording != null) {
+            status.put("recordingStartedAt", recording.getStartTime());
+        }
+        status.put("operations", statsCollector.snapshot());
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> control(@Selector String action) throws IOException {
+        return switch (action) {
+            case "start" -> start();
+            case "dump" -> Map.of("file", dump().toString());
+            case "stop" -> stop();
+            default -> throw new InvalidEndpointRequestException(
+                    "Unknown action " + action, "Action must be one of start, dump, stop");
+        };
+    }
+
+    private Map<String, Object> start() throws IOException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("Recording already running", "Recording already running");
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (ParseException e) {
+            throw new IOException("JDK profile settings could not be read", e);
+        }
+        recording.setName("on-demand");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.enable(RepositoryCallEvent.class);
+        recording.enable(ServiceCallEvent.class);
+        recording.enable(SerializationEvent.class);
+        recording.start();
+        return Map.of("recording", recording.getState(), "maxAgeMinutes", maxAge.toMinutes());
+    }
+
+    private Path dump() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("No recording running", "Start a recording first");
+        }
+        Files.createDirectories(directory);
+        Path file = directory.resolve("recording-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr")
+                .toAbsolutePath();
+        recording.dump(file);
+        return file;
+    }
+
+    // Stopping keeps the data: it is dumped once more before the recording is closed
+    private Map<String, Object> stop() throws IOException {
+        Path file = dump();
+        recording.stop();
+        recording.close();
+        recording = null;
+        return Map.of("file", file.toString());
+    }
+}
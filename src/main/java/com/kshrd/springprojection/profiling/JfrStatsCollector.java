@@ -0,0 +1,82 @@
+package com.kshrd.springprojection.profiling;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Consumes the repository, service and serialization events in-process through a JFR
+ * {@link RecordingStream} and folds them into {@link RollingStats}. The stream enables the
+ * events, so they are only produced while the collector runs or an on-demand recording asks.
+ */
+@Slf4j
+@Component
+public class JfrStatsCollector {
+
+    private static final String REPOSITORY = "repository";
+    private static final String SERVICE = "service";
+    private static final String SERIALIZATION = "serialization";
+
+    private final boolean enabled;
+    private final RollingStats stats;
+    private RecordingStream stream;
+
+    public JfrStatsCollector(
+            @Value("${profiling.stream.enabled:true}") boolean enabled,
+            @Value("${profiling.stream.window-seconds:60}") int windowSeconds
+    ) {
+        this.enabled = enabled;
+        this.stats = new RollingStats(windowSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(RepositoryCallEvent.class);
+        stream.enable(ServiceCallEvent.class);
+        stream.enable(SerializationEvent.class);
+        stream.setMaxAge(Duration.ofMinutes(1));
+        stream.onEvent(RepositoryCallEvent.NAME, event -> recordCall(REPOSITORY, event));
+        stream.onEvent(ServiceCallEvent.NAME, event -> recordCall(SERVICE, event));
+        stream.onEvent(SerializationEvent.NAME, event -> record(SERIALIZATION, event, event.getString("converter")));
+        stream.startAsync();
+        log.info("JFR event stream started for repository, service and serialization events");
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public List<RollingStats.OperationStats> snapshot() {
+        return stats.snapshot(Instant.now().getEpochSecond());
+    }
+
+    private void recordCall(String kind, RecordedEvent event) {
+        record(kind, event, event.getString("component") + "." + event.getString("method"));
+    }
+
+    private void record(String kind, RecordedEvent event, String operation) {
+        stats.record(kind, event.getString("endpoint"), operation, event.getDuration(),
+                event.getInt("rowCount"), event.getEndTime().getEpochSecond());
+    }
+}
@@ -0,0 +1,57 @@
+package com.kshrd.springprojection.profiling;
+
+/**
+ * Fixed log-scaled latency buckets: one per microsecond below 16 µs, then four per power of
+ * two up to about 18 minutes, so a bucket is never wider than a quarter of its lower bound.
+ * Slower calls share the last bucket. Only the bucket arithmetic lives here; callers own the
+ * {@code int[BUCKETS]} counts.
+ */
+final class LatencyHistogram {
+
+    private static final int LINEAR_MICROS = 16;
+    private static final int FIRST_EXPONENT = 4;
+    private static final int MAX_EXPONENT = 30;
+    private static final int SUB_BUCKETS = 4;
+
+    static final int BUCKETS = LINEAR_MICROS + (MAX_EXPONENT - FIRST_EXPONENT + 1) * SUB_BUCKETS;
+
+    private LatencyHistogram() {
+    }
+
+    static int bucketOf(long nanos) {
+        long micros = Math.max(nanos, 0) / 1_000;
+        if (micros < LINEAR_MICROS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return LINEAR_MICROS + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + sub;
+    }
+
+    // Exclusive upper bound of a bucket, reported as the percentile so it never understates
+    static long upperBoundNanos(int bucket) {
+        if (bucket < LINEAR_MICROS) {
+            return (bucket + 1) * 1_000L;
+        }
+        int exponent = (bucket - LINEAR_MICROS) / SUB_BUCKETS + FIRST_EXPONENT;
+        int sub = (bucket - LINEAR_MICROS) % SUB_BUCKETS;
+        long width = 1L << (exponent - 2);
+        return ((1L << exponent) + (sub + 1) * width) * 1_000L;
+    }
+
+    // Upper bound of the bucket holding the given quantile of the counts
+    static long quantileNanos(int[] counts, long total, double quantile) {
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return upperBoundNanos(bucket);
+            }
+        }
+        return upperBoundNanos(counts.length - 1);
+    }
+}
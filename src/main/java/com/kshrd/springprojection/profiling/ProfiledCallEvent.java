@@ -0,0 +1,23 @@
+package com.kshrd.springprojection.profiling;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+// Common fields of the repository and service call events
+abstract class ProfiledCallEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Component")
+    String component;
+
+    @Label("Method")
+    String method;
+
+    @Label("Row Count")
+    int rowCount;
+
+    @Label("Projection Type")
+    String projectionType;
+}
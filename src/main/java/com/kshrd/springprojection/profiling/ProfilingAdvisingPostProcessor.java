@@ -0,0 +1,42 @@
+package com.kshrd.springprojection.profiling;
+
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+
+/**
+ * Adds a JFR call event around every method of the matching beans. Beans that are already
+ * proxies (Spring Data repositories, transactional services) get the advice added in front of
+ * their existing interceptors, so service timings include the transaction commit.
+ */
+public class ProfilingAdvisingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private ProfilingAdvisingPostProcessor(ClassFilter classFilter, ProfilingInterceptor interceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(interceptor);
+        advisor.setPointcut(new ComposablePointcut(classFilter));
+        this.advisor = advisor;
+        setBeforeExistingAdvisors(true);
+    }
+
+    // Spring Data repositories and the @Repository JDBC classes
+    public static ProfilingAdvisingPostProcessor forRepositories() {
+        ClassFilter classFilter = ClassFilters.union(
+                new RootClassFilter(Repository.class),
+                new AnnotationClassFilter(org.springframework.stereotype.Repository.class, true)
+        );
+        return new ProfilingAdvisingPostProcessor(classFilter, new ProfilingInterceptor(RepositoryCallEvent::new));
+    }
+
+    public static ProfilingAdvisingPostProcessor forServices() {
+        return new ProfilingAdvisingPostProcessor(
+                new AnnotationClassFilter(Service.class, true),
+                new ProfilingInterceptor(ServiceCallEvent::new)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.kshrd.springprojection.profiling;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+// Wraps a bean method in a JFR call event; costs one allocation and a flag check while no recording wants it
+class ProfilingInterceptor implements MethodInterceptor {
+
+    private final Supplier<ProfiledCallEvent> eventFactory;
+
+    ProfilingInterceptor(Supplier<ProfiledCallEvent> eventFactory) {
+        this.eventFactory = eventFactory;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ProfiledCallEvent event = eventFactory.get();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = ProfilingSupport.endpoint();
+                event.component = componentName(invocation);
+                event.method = invocation.getMethod().getName();
+                event.rowCount = ProfilingSupport.rowCount(result);
+                event.projectionType = ProfilingSupport.projectionType(result, invocation.getArguments());
+                event.commit();
+            }
+        }
+    }
+
+    // Spring Data targets are all SimpleJpaRepository; the proxy class names the repository interface instead
+    private static String componentName(MethodInvocation invocation) {
+        Class<?> type = invocation instanceof ProxyMethodInvocation proxied
+                ? proxied.getProxy().getClass()
+                : invocation.getMethod().getDeclaringClass();
+        if (Proxy.isProxyClass(type) && type.getInterfaces().length > 0) {
+            return type.getInterfaces()[0].getSimpleName();
+        }
+        return ClassUtils.getUserClass(type).getSimpleName();
+    }
+}
@@ -0,0 +1,92 @@
+package com.kshrd.springprojection.profiling;
+
+import com.kshrd.springprojection.dto.baseResponse.APIResponse;
+import com.kshrd.springprojection.dto.baseResponse.PagedResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Optional;
+
+// Derives the endpoint, row count and projection type recorded on the profiling events
+final class ProfilingSupport {
+
+    private static final String BACKGROUND = "background";
+
+    private ProfilingSupport() {
+    }
+
+    static String endpoint() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return endpoint(attributes.getRequest());
+        }
+        return BACKGROUND;
+    }
+
+    // The mapped pattern keeps ids out of the key, so /accounts/1 and /accounts/2 aggregate together
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    static int rowCount(Object result) {
+        Object value = unwrap(result);
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    // A Class argument names a dynamic projection; otherwise the type of the first returned row is used
+    static String projectionType(Object result, Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof Class<?> type) {
+                return type.getSimpleName();
+            }
+        }
+        return projectionType(result);
+    }
+
+    static String projectionType(Object result) {
+        Object value = unwrap(result);
+        Object row = value;
+        if (value instanceof Iterable<?> rows) {
+            var iterator = rows.iterator();
+            row = iterator.hasNext() ? iterator.next() : null;
+        } else if (value instanceof Optional<?> optional) {
+            row = optional.orElse(null);
+        }
+        if (row == null) {
+            return null;
+        }
+        // Interface projections are JDK proxies; report the projection interface instead of $ProxyNN
+        if (Proxy.isProxyClass(row.getClass()) && row.getClass().getInterfaces().length > 0) {
+            return row.getClass().getInterfaces()[0].getSimpleName();
+        }
+        return row.getClass().getSimpleName();
+    }
+
+    private static Object unwrap(Object result) {
+        Object value = result;
+        if (value instanceof APIResponse<?> response) {
+            value = response.payload();
+        }
+        if (value instanceof PagedResponse<?> paged) {
+            value = paged.items();
+        }
+        return value;
+    }
+}
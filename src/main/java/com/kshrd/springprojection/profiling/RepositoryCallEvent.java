@@ -0,0 +1,16 @@
+package com.kshrd.springprojection.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Category({"Spring Projection", "Data Access"})
+@Description("A Spring Data or JDBC repository method, including result materialization")
+@StackTrace(false)
+class RepositoryCallEvent extends ProfiledCallEvent {
+    static final String NAME = "com.kshrd.springprojection.RepositoryCall";
+}
@@ -0,0 +1,121 @@
+package com.kshrd.springprojection.profiling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-operation call statistics over the last {@code windowSeconds}, kept in one-second slots
+ * that are reused as time moves on, so memory stays constant per operation. Each slot also holds
+ * a {@link LatencyHistogram}, merged on read to report p99.
+ */
+public class RollingStats {
+
+    private final int windowSeconds;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    public RollingStats(int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public void record(String kind, String endpoint, String operation, Duration duration, int rows, long epochSecond) {
+        windows.computeIfAbsent(new Key(kind, endpoint, operation), key -> new Window(windowSeconds))
+                .record(epochSecond, duration.toNanos(), rows);
+    }
+
+    // Slowest total time first, which is where a p99 spike is usually hiding
+    public List<OperationStats> snapshot(long nowEpochSecond) {
+        List<OperationStats> result = new ArrayList<>();
+        windows.forEach((key, window) -> {
+            OperationStats stats = window.summarize(key, nowEpochSecond);
+            if (stats.count() > 0) {
+                result.add(stats);
+            }
+        });
+        result.sort(Comparator.comparingDouble(OperationStats::totalMillis).reversed());
+        return result;
+    }
+
+    public record OperationStats(
+            String kind,
+            String endpoint,
+            String operation,
+            long count,
+            double totalMillis,
+            double avgMillis,
+            double p99Millis,
+            double maxMillis,
+            double avgRows
+    ) {}
+
+    private record Key(String kind, String endpoint, String operation) {}
+
+    private static final class Window {
+        private final long[] seconds;
+        private final long[] counts;
+        private final long[] totalNanos;
+        private final long[] maxNanos;
+        private final long[] rows;
+        private final int[][] histograms;
+
+        private Window(int size) {
+            seconds = new long[size];
+            counts = new long[size];
+            totalNanos = new long[size];
+            maxNanos = new long[size];
+            rows = new long[size];
+            histograms = new int[size][LatencyHistogram.BUCKETS];
+        }
+
+        private synchronized void record(long epochSecond, long nanos, int rowCount) {
+            int slot = (int) Math.floorMod(epochSecond, (long) seconds.length);
+            if (seconds[slot] != epochSecond) {
+                seconds[slot] = epochSecond;
+                counts[slot] = 0;
+                totalNanos[slot] = 0;
+                maxNanos[slot] = 0;
+                rows[slot] = 0;
+                Arrays.fill(histograms[slot], 0);
+            }
+            counts[slot]++;
+            totalNanos[slot] += nanos;
+            maxNanos[slot] = Math.max(maxNanos[slot], nanos);
+            rows[slot] += rowCount;
+            histograms[slot][LatencyHistogram.bucketOf(nanos)]++;
+        }
+
+        private synchronized OperationStats summarize(Key key, long nowEpochSecond) {
+            long count = 0;
+            long total = 0;
+            long max = 0;
+            long rowTotal = 0;
+            int[] histogram = new int[LatencyHistogram.BUCKETS];
+            for (int i = 0; i < seconds.length; i++) {
+                if (nowEpochSecond - seconds[i] < seconds.length) {
+                    count += counts[i];
+                    total += totalNanos[i];
+                    max = Math.max(max, maxNanos[i]);
+                    rowTotal += rows[i];
+                    for (int b = 0; b < histogram.length; b++) {
+                        histogram[b] += histograms[i][b];
+                    }
+                }
+            }
+            return new OperationStats(
+                    key.kind(),
+                    key.endpoint(),
+                    key.operation(),
+                    count,
+                    total / 1e6,
+                    count == 0 ? 0 : total / 1e6 / count,
+                    count == 0 ? 0 : Math.min(LatencyHistogram.quantileNanos(histogram, count, 0.99), max) / 1e6,
+                    max / 1e6,
+                    count == 0 ? 0 : (double) rowTotal / count
+            );
+        }
+    }
+}
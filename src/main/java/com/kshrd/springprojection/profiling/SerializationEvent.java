@@ -0,0 +1,29 @@
+package com.kshrd.springprojection.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SerializationEvent.NAME)
+@Label("Response Serialization")
+@Category({"Spring Projection", "Web"})
+@Description("Writing a response body through its HTTP message converter (Jackson for JSON)")
+@StackTrace(false)
+class SerializationEvent extends Event {
+    static final String NAME = "com.kshrd.springprojection.Serialization";
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Converter")
+    String converter;
+
+    @Label("Row Count")
+    int rowCount;
+
+    @Label("Projection Type")
+    String projectionType;
+}
@@ -0,0 +1,46 @@
+package com.kshrd.springprojection.profiling;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Starts a {@link SerializationEvent} right before the message converter writes a response
+ * body; {@link SerializationProfilingInterceptor} ends it once the handler has returned, which
+ * for {@code @ResponseBody} handlers is after the body was written.
+ */
+@ControllerAdvice
+public class SerializationProfilingAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String EVENT_ATTRIBUTE = SerializationEvent.class.getName();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        SerializationEvent event = new SerializationEvent();
+        if (event.isEnabled() && request instanceof ServletServerHttpRequest servletRequest) {
+            event.converter = selectedConverterType.getSimpleName();
+            event.rowCount = ProfilingSupport.rowCount(body);
+            event.projectionType = ProfilingSupport.projectionType(body);
+            servletRequest.getServletRequest().setAttribute(EVENT_ATTRIBUTE, event);
+            event.begin();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kshrd.springprojection.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class SerializationProfilingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SerializationProfilingAdvice.EVENT_ATTRIBUTE) instanceof SerializationEvent event) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = ProfilingSupport.endpoint(request);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.kshrd.springprojection.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ServiceCallEvent.NAME)
+@Label("Service Call")
+@Category({"Spring Projection", "Service"})
+@Description("A service method, including its transaction and response mapping")
+@StackTrace(false)
+class ServiceCallEvent extends ProfiledCallEvent {
+    static final String NAME = "com.kshrd.springprojection.ServiceCall";
+}
@@ -0,0 +1,61 @@
+package com.kshrd.springprojection.repository;
+
+import com.kshrd.springprojection.dto.response.AccountResponse;
+import com.kshrd.springprojection.entity.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Plain JDBC for what JPA cannot do in one round trip: multi-row inserts with ON CONFLICT (IDENTITY
+// ids disable Hibernate insert batching) and UPDATE ... RETURNING.
+@Repository
+@RequiredArgsConstructor
+public class AccountJdbcRepository {
+
+    // One statement for the whole batch; rows whose account number is taken are skipped
+    private static final String INSERT_SQL = """
+            INSERT INTO accounts (account_number, holder_name)
+            SELECT * FROM unnest(CAST(? AS VARCHAR[]), CAST(? AS VARCHAR[]))
+            ON CONFLICT (account_number) DO NOTHING
+            RETURNING id, account_number
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Returns the ids of the inserted rows by account number; numbers missing from the result were already taken
+    public Map<String, Long> insertAll(List<Account> accounts) {
+        String[] numbers = accounts.stream().map(Account::getAccountNumber).toArray(String[]::new);
+        String[] holderNames = accounts.stream().map(Account::getHolderName).toArray(String[]::new);
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", numbers));
+            ps.setArray(2, con.createArrayOf("varchar", holderNames));
+            return ps;
+        }, rs -> {
+            ids.put(rs.getString("account_number"), rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    public Optional<AccountResponse> patch(Long id, String holderName) {
+        return jdbcTemplate.query("""
+                UPDATE accounts SET holder_name = COALESCE(CAST(? AS VARCHAR), holder_name)
+                WHERE id = ?
+                RETURNING id, account_number, holder_name
+                """, (rs, i) -> new AccountResponse(
+                        rs.getLong("id"),
+                        rs.getString("account_number"),
+                        rs.getString("holder_name")
+                ), holderName, id)
+                .stream()
+                .findFirst();
+    }
+}
@@ -1,9 +1,43 @@
 package com.kshrd.springprojection.repository;
 
+import com.kshrd.springprojection.dto.projection.AccountSummary;
 import com.kshrd.springprojection.entity.Account;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    // Interface Projection, single IN query
+    List<AccountSummary> findByIdIn(Collection<Long> ids);
+
+    // Pagination + Projection
+    Page<AccountSummary> findAllBy(Pageable pageable);
+
+    // SELECT ... FOR UPDATE; callers locking several accounts must do so in ascending id order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    // Search on holder name or account number, served by the pg_trgm indexes (V3 migration)
+    @Query(value = """
+        SELECT a.id AS id, a.account_number AS accountNumber, a.holder_name AS holderName
+        FROM accounts a
+        WHERE a.holder_name ILIKE :pattern OR a.account_number ILIKE :pattern
+        ORDER BY a.id
+    """, countQuery = """
+        SELECT COUNT(*)
+        FROM accounts a
+        WHERE a.holder_name ILIKE :pattern OR a.account_number ILIKE :pattern
+    """, nativeQuery = true)
+    Page<AccountSummary> search(@Param("pattern") String pattern, Pageable pageable);
 }
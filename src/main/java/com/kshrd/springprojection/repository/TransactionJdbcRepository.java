@@ -0,0 +1,142 @@
+package com.kshrd.springprojection.repository;
+
+import com.kshrd.springprojection.dto.response.AccountResponse;
+import com.kshrd.springprojection.dto.response.TransactionResponse;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import com.kshrd.springprojection.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Direct DML with RETURNING, so callers learn which rows changed without loading entities.
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+
+    private static final RowMapper<TransactionChangedEvent> UPDATED_ROW = (rs, i) -> {
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        return new TransactionChangedEvent(
+                ChangeType.UPDATED,
+                rs.getLong("id"),
+                amount(rs),
+                rs.getString("type"),
+                rs.getLong("account_id"),
+                timestamp == null ? null : timestamp.toLocalDateTime()
+        );
+    };
+
+    private static final RowMapper<TransactionResponse> RESPONSE_ROW = (rs, i) -> {
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        long accountId = rs.getLong("account_id");
+        return new TransactionResponse(
+                rs.getLong("id"),
+                rs.getString("type"),
+                amount(rs),
+                timestamp == null ? null : timestamp.toLocalDateTime(),
+                accountId,
+                new AccountResponse(accountId, rs.getString("account_number"), rs.getString("holder_name"))
+        );
+    };
+
+    // Transfer legs only change as a pair, so the id-based bulk statements skip them
+    private static final String NOT_TRANSFER_LEG = "type NOT IN ('TRANSFER_OUT', 'TRANSFER_IN')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Single-statement delete; returns false when the id does not exist or is a transfer leg
+    public boolean deleteOne(Long id) {
+        return jdbcTemplate.update("DELETE FROM transactions WHERE id = ? AND " + NOT_TRANSFER_LEG, id) > 0;
+    }
+
+    public List<Long> deleteByIds(Collection<Long> ids) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("DELETE FROM transactions WHERE id = ANY (?) AND " + NOT_TRANSFER_LEG + " RETURNING id");
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        }, (rs, i) -> rs.getLong(1));
+    }
+
+    public List<Long> deleteChunkByAccount(Long accountId, int limit) {
+        return jdbcTemplate.query("""
+                DELETE FROM transactions
+                WHERE id IN (SELECT id FROM transactions WHERE account_id = ? LIMIT ?)
+                RETURNING id
+                """, (rs, i) -> rs.getLong(1), accountId, limit);
+    }
+
+    public List<Long> deleteChunkByTimeRange(LocalDateTime from, LocalDateTime to, int limit) {
+        return jdbcTemplate.query("""
+                DELETE FROM transactions
+                WHERE id IN (SELECT id FROM transactions WHERE timestamp >= ? AND timestamp < ? LIMIT ?)
+                RETURNING id
+                """, (rs, i) -> rs.getLong(1), Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+    }
+
+    public List<TransactionChangedEvent> updateType(Collection<Long> ids, String type) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("""
+                    UPDATE transactions SET type = ?
+                    WHERE id = ANY (?) AND type IS DISTINCT FROM ? AND %s
+                    RETURNING id, amount, type, account_id, timestamp
+                    """.formatted(NOT_TRANSFER_LEG));
+            ps.setString(1, type);
+            ps.setArray(2, con.createArrayOf("bigint", ids.toArray()));
+            ps.setString(3, type);
+            return ps;
+        }, UPDATED_ROW);
+    }
+
+    public List<Long> findTransferLegIds(Collection<Long> ids) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("SELECT id FROM transactions WHERE id = ANY (?) AND NOT (" + NOT_TRANSFER_LEG + ") ORDER BY id");
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        }, (rs, i) -> rs.getLong(1));
+    }
+
+    public List<TransactionChangedEvent> findByIds(Collection<Long> ids) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("""
+                    SELECT id, amount, type, account_id, timestamp
+                    FROM transactions
+                    WHERE id = ANY (?)
+                    """);
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        }, UPDATED_ROW);
+    }
+
+    // Null arguments keep the current column value; empty when the id does not exist or is a transfer leg
+    public Optional<TransactionResponse> patch(Long id, BigDecimal amount, String type, Long accountId) {
+        return jdbcTemplate.query("""
+                WITH updated AS (
+                    UPDATE transactions
+                    SET amount = COALESCE(CAST(? AS NUMERIC), amount),
+                        type = COALESCE(CAST(? AS VARCHAR), type),
+                        account_id = COALESCE(CAST(? AS BIGINT), account_id)
+                    WHERE id = ? AND %s
+                    RETURNING id, amount, type, timestamp, account_id
+                )
+                SELECT u.id, u.amount, u.type, u.timestamp, u.account_id, a.account_number, a.holder_name
+                FROM updated u JOIN accounts a ON a.id = u.account_id
+                """.formatted(NOT_TRANSFER_LEG), RESPONSE_ROW, amount, type, accountId, id)
+                .stream()
+                .findFirst();
+    }
+
+    private static Money amount(ResultSet rs) throws SQLException {
+        BigDecimal amount = rs.getBigDecimal("amount");
+        return amount == null ? null : Money.of(amount);
+    }
+}
@@ -1,17 +1,23 @@
 package com.kshrd.springprojection.repository;
 
-import com.kshrd.springprojection.dto.projection.DashboardDto;
+import com.kshrd.springprojection.dto.projection.AccountTotal;
+import com.kshrd.springprojection.dto.projection.DashboardTotals;
+import com.kshrd.springprojection.dto.projection.TimeBucketTotal;
 import com.kshrd.springprojection.dto.projection.TransactionSummary;
 import com.kshrd.springprojection.dto.projection.TransactionWithAccount;
+import com.kshrd.springprojection.dto.projection.TypeTotal;
 import com.kshrd.springprojection.entity.Transaction;
+import com.kshrd.springprojection.money.Money;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
@@ -22,20 +28,100 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<TransactionWithAccount> findByType(String type);
 
     // 3. Dynamic Projection
-    <T> List<T> findByAmountGreaterThan(BigDecimal amount, Class<T> type);
+    <T> List<T> findByAmountGreaterThan(Money amount, Class<T> type);
 
-    // 4. DTO Projection
+    // 4. Aggregate projection. Sums are native so they read the NUMERIC column rather than the
+    // Money-converted attribute, and come back as long minor units with no BigDecimal in the JVM
+    @Query(value = """
+        SELECT COUNT(*) AS totalTransactions,
+               CAST(COALESCE(SUM(t.amount), 0) * 100 AS BIGINT) AS totalAmountMinorUnits,
+               COUNT(*) FILTER (WHERE t.type = 'DEPOSIT') AS depositCount,
+               COUNT(*) FILTER (WHERE t.type = 'WITHDRAWAL') AS withdrawalCount
+        FROM transactions t
+    """, nativeQuery = true)
+    DashboardTotals getDashboardStats();
+
+    // 5. Pagination + Projection
+    Page<TransactionSummary> findAllBy(Pageable pageable);
+
+    @Query("SELECT t.type FROM Transaction t WHERE t.id = :id")
+    Optional<String> findTypeById(@Param("id") Long id);
+
+    // Time-range listing, oldest first; older rows may live in the archive instead
     @Query("""
-        SELECT new com.kshrd.springprojection.dto.projection.DashboardDto(
-            COUNT(t),
-            SUM(t.amount),
-            SUM(CASE WHEN t.type = 'DEPOSIT' THEN 1 ELSE 0 END),
-            SUM(CASE WHEN t.type = 'WITHDRAWAL' THEN 1 ELSE 0 END)
-        )
+        SELECT t.id AS id, t.amount AS amount, t.type AS type
         FROM Transaction t
+        WHERE t.timestamp >= :from AND t.timestamp < :to
+        ORDER BY t.timestamp, t.id
     """)
-    DashboardDto getDashboardStats();
+    List<TransactionSummary> findInTimeRange(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
 
-    // 5. Pagination + Projection
-    Page<TransactionSummary> findAllBy(Pageable pageable);
+    // 6. Aggregation (GROUP BY), native for the same reason as the dashboard
+    @Query(value = """
+        SELECT t.type AS type,
+               COUNT(*) AS count,
+               CAST(SUM(t.amount) * 100 AS BIGINT) AS totalAmountMinorUnits
+        FROM transactions t
+        WHERE t.timestamp >= :from AND t.timestamp < :to
+        GROUP BY t.type
+        ORDER BY t.type
+    """, nativeQuery = true)
+    List<TypeTotal> getTotalsByType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(value = """
+        SELECT a.id AS accountId,
+               a.account_number AS accountNumber,
+               a.holder_name AS holderName,
+               COUNT(*) AS count,
+               CAST(SUM(t.amount) * 100 AS BIGINT) AS totalAmountMinorUnits
+        FROM transactions t JOIN accounts a ON a.id = t.account_id
+        WHERE t.timestamp >= :from AND t.timestamp < :to
+        GROUP BY a.id, a.account_number, a.holder_name
+        ORDER BY a.id
+    """, countQuery = """
+        SELECT COUNT(DISTINCT t.account_id)
+        FROM transactions t
+        WHERE t.timestamp >= :from AND t.timestamp < :to
+    """, nativeQuery = true)
+    Page<AccountTotal> getTotalsByAccount(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query(value = """
+        SELECT a.id AS accountId,
+               a.account_number AS accountNumber,
+               a.holder_name AS holderName,
+               COUNT(*) AS count,
+               CAST(SUM(t.amount) * 100 AS BIGINT) AS totalAmountMinorUnits
+        FROM transactions t JOIN accounts a ON a.id = t.account_id
+        WHERE t.timestamp >= :from AND t.timestamp < :to
+        GROUP BY a.id, a.account_number, a.holder_name
+        ORDER BY SUM(t.amount) DESC, a.id
+    """, nativeQuery = true)
+    List<AccountTotal> getTopAccountsByVolume(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query(value = """
+        SELECT CAST(FLOOR(EXTRACT(EPOCH FROM t.timestamp) / :bucketSeconds) * :bucketSeconds AS BIGINT) AS bucketStart,
+               COUNT(*) AS count,
+               CAST(SUM(t.amount) * 100 AS BIGINT) AS totalAmountMinorUnits
+        FROM transactions t
+        WHERE t.timestamp >= :from AND t.timestamp < :to
+        GROUP BY 1
+        ORDER BY 1
+    """, nativeQuery = true)
+    List<TimeBucketTotal> getTotalsByTimeBucket(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("bucketSeconds") long bucketSeconds
+    );
 }
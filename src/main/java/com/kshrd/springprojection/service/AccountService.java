@@ -1,7 +1,12 @@
 package com.kshrd.springprojection.service;
 
+import com.kshrd.springprojection.dto.baseResponse.PagedResponse;
+import com.kshrd.springprojection.dto.projection.AccountSummary;
+import com.kshrd.springprojection.dto.request.AccountPatchRequest;
 import com.kshrd.springprojection.dto.request.AccountRequest;
 import com.kshrd.springprojection.dto.response.AccountResponse;
+import com.kshrd.springprojection.enumeration.SearchMode;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 
@@ -14,5 +19,15 @@ public interface AccountService {
 
     AccountResponse update(Long id, AccountRequest req);
 
+    AccountResponse patch(Long id, AccountPatchRequest req);
+
     void delete(Long id);
+
+    List<AccountSummary> getByIds(List<Long> ids);
+
+    PagedResponse<Page<AccountSummary>> getPaged(Integer page, Integer size);
+
+    List<AccountResponse> createAll(List<AccountRequest> reqs);
+
+    PagedResponse<Page<AccountSummary>> search(String query, SearchMode mode, Integer page, Integer size);
 }
@@ -0,0 +1,9 @@
+package com.kshrd.springprojection.service;
+
+import com.kshrd.springprojection.dto.response.StatementRunResponse;
+
+import java.time.YearMonth;
+
+public interface StatementService {
+    StatementRunResponse generate(YearMonth month);
+}
@@ -0,0 +1,10 @@
+package com.kshrd.springprojection.service;
+
+import com.kshrd.springprojection.dto.request.ImportRequest;
+import com.kshrd.springprojection.dto.response.ImportStatusResponse;
+
+public interface TransactionImportService {
+    ImportStatusResponse start(ImportRequest req);
+
+    ImportStatusResponse getStatus(String id);
+}
@@ -1,15 +1,26 @@
 package com.kshrd.springprojection.service;
 
 import com.kshrd.springprojection.dto.baseResponse.PagedResponse;
+import com.kshrd.springprojection.dto.projection.AccountTotalDto;
+import com.kshrd.springprojection.dto.projection.DashboardDto;
+import com.kshrd.springprojection.dto.projection.TimeBucketDto;
 import com.kshrd.springprojection.dto.projection.TransactionSummary;
 import com.kshrd.springprojection.dto.projection.TransactionWithAccount;
+import com.kshrd.springprojection.dto.projection.TypeTotalDto;
+import com.kshrd.springprojection.dto.request.BulkTypeUpdateRequest;
+import com.kshrd.springprojection.dto.request.TransactionPatchRequest;
 import com.kshrd.springprojection.dto.request.TransactionRequest;
+import com.kshrd.springprojection.dto.request.TransferRequest;
+import com.kshrd.springprojection.dto.response.BulkOperationResponse;
 import com.kshrd.springprojection.dto.response.TransactionResponse;
+import com.kshrd.springprojection.dto.response.TransferResponse;
+import com.kshrd.springprojection.enumeration.TimeBucket;
 import com.kshrd.springprojection.enumeration.TransactionProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TransactionService {
@@ -21,11 +32,35 @@ public interface TransactionService {
 
     TransactionResponse create(TransactionRequest req);
 
+    TransferResponse transfer(TransferRequest req);
+
     TransactionResponse getById(Long id);
 
     TransactionResponse update(Long id, TransactionRequest req);
 
+    TransactionResponse patch(Long id, TransactionPatchRequest req);
+
     void delete(Long id);
 
     PagedResponse<Page<TransactionSummary>> getPaged(Integer page, Integer size, Sort.Direction direction, TransactionProperty sortBy);
+
+    DashboardDto getDashboardStats();
+
+    List<TransactionSummary> getHistory(LocalDateTime from, LocalDateTime to, Integer limit);
+
+    List<TypeTotalDto> getTotalsByType(LocalDateTime from, LocalDateTime to);
+
+    PagedResponse<Page<AccountTotalDto>> getTotalsByAccount(LocalDateTime from, LocalDateTime to, Integer page, Integer size);
+
+    List<AccountTotalDto> getTopAccounts(LocalDateTime from, LocalDateTime to, Integer limit);
+
+    List<TimeBucketDto> getTotalsByTimeBucket(LocalDateTime from, LocalDateTime to, TimeBucket bucket);
+
+    BulkOperationResponse deleteByIds(List<Long> ids);
+
+    BulkOperationResponse deleteByAccount(Long accountId);
+
+    BulkOperationResponse deleteByTimeRange(LocalDateTime from, LocalDateTime to);
+
+    BulkOperationResponse updateType(BulkTypeUpdateRequest req);
 }
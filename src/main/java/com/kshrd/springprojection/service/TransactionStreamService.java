@@ -0,0 +1,8 @@
+package com.kshrd.springprojection.service;
+
+import com.kshrd.springprojection.dto.request.TransactionStreamFilter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface TransactionStreamService {
+    SseEmitter subscribe(TransactionStreamFilter filter);
+}
@@ -1,23 +1,55 @@
 package com.kshrd.springprojection.service.implementation;
 
+import com.kshrd.springprojection.cache.RequestCoalescer;
+import com.kshrd.springprojection.dto.baseResponse.PagedResponse;
+import com.kshrd.springprojection.dto.projection.AccountSummary;
+import com.kshrd.springprojection.dto.request.AccountPatchRequest;
 import com.kshrd.springprojection.dto.request.AccountRequest;
 import com.kshrd.springprojection.dto.response.AccountResponse;
 import com.kshrd.springprojection.entity.Account;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.enumeration.SearchMode;
+import com.kshrd.springprojection.event.AccountChangedEvent;
+import com.kshrd.springprojection.exception.BadRequestException;
+import com.kshrd.springprojection.exception.ConflictException;
 import com.kshrd.springprojection.exception.NotFoundException;
+import com.kshrd.springprojection.repository.AccountJdbcRepository;
 import com.kshrd.springprojection.repository.AccountRepository;
 import com.kshrd.springprojection.service.AccountService;
 import com.kshrd.springprojection.utils.RandomUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.kshrd.springprojection.utils.ResponseUtil.pagedResponse;
 
 @Service
 @RequiredArgsConstructor
 public class AccountServiceImpl implements AccountService {
 
+    private static final int MAX_BULK_SIZE = 1000;
+    // pg_trgm cannot use its GIN index for LIKE patterns with fewer than three characters
+    private static final int MIN_SEARCH_LENGTH = 3;
+    private static final int MAX_NUMBER_ATTEMPTS = 5;
+
     private final AccountRepository accountRepository;
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
 
     public List<AccountResponse> getAll() {
         return accountRepository.findAll()
@@ -27,30 +59,157 @@ public class AccountServiceImpl implements AccountService {
     }
 
     public AccountResponse getById(Long id) {
-        return accountRepository.findById(id)
-                .map(this::toResponse)
-                .orElseThrow(() -> new NotFoundException("Account not found with id " + id));
+        return requestCoalescer.execute(
+                "accounts.byId",
+                () -> accountRepository.findById(id)
+                        .map(this::toResponse)
+                        .orElseThrow(() -> new NotFoundException("Account not found with id " + id)),
+                id
+        );
     }
 
     public AccountResponse create(AccountRequest req) {
-        Account account = Account.builder()
-                .accountNumber(new RandomUtil().generateAccountNum())
-                .holderName(req.holderName())
-                .build();
-        return toResponse(accountRepository.save(account));
+        AccountResponse created = insertWithUniqueNumbers(List.of(req.holderName())).getFirst();
+        eventPublisher.publishEvent(new AccountChangedEvent(ChangeType.CREATED, created.id()));
+        return created;
     }
 
     public AccountResponse update(Long id, AccountRequest req) {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Account not found with id " + id));
         account.setHolderName(req.holderName());
-        return toResponse(accountRepository.save(account));
+        AccountResponse updated = toResponse(accountRepository.save(account));
+        eventPublisher.publishEvent(new AccountChangedEvent(ChangeType.UPDATED, id));
+        return updated;
+    }
+
+    public AccountResponse patch(Long id, AccountPatchRequest req) {
+        if (req.holderName() == null) {
+            throw new BadRequestException("At least one field is required");
+        }
+        AccountResponse patched = accountJdbcRepository.patch(id, req.holderName())
+                .orElseThrow(() -> new NotFoundException("Account not found with id " + id));
+        eventPublisher.publishEvent(new AccountChangedEvent(ChangeType.UPDATED, id));
+        return patched;
     }
 
     public void delete(Long id) {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Account not found with id " + id));
         accountRepository.delete(account);
+        eventPublisher.publishEvent(new AccountChangedEvent(ChangeType.DELETED, id));
+    }
+
+    public List<AccountSummary> getByIds(List<Long> ids) {
+        List<Long> distinctIds = validateBulkSize(ids).stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Long, AccountSummary> byId = accountRepository.findByIdIn(distinctIds)
+                .stream()
+                .collect(Collectors.toMap(AccountSummary::getId, Function.identity()));
+
+        // Keep the caller's order; ids that do not exist are skipped
+        return distinctIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public PagedResponse<Page<AccountSummary>> getPaged(Integer page, Integer size) {
+        int zeroBased = Math.max(page, 1) - 1;
+
+        Page<AccountSummary> pageResult = accountRepository.findAllBy(
+                PageRequest.of(zeroBased, size, Sort.by(Sort.Direction.ASC, "id"))
+        );
+
+        return pagedResponse(
+                pageResult,
+                pageResult.getTotalElements(),
+                pageResult.getNumber() + 1,
+                pageResult.getSize(),
+                pageResult.getTotalPages()
+        );
+    }
+
+    @Transactional
+    public List<AccountResponse> createAll(List<AccountRequest> reqs) {
+        List<AccountResponse> created = insertWithUniqueNumbers(
+                validateBulkSize(reqs).stream().map(AccountRequest::holderName).toList()
+        );
+        created.forEach(account -> eventPublisher.publishEvent(new AccountChangedEvent(ChangeType.CREATED, account.id())));
+        return created;
+    }
+
+    public PagedResponse<Page<AccountSummary>> search(String query, SearchMode mode, Integer page, Integer size) {
+        String term = query == null ? "" : query.trim();
+        if (term.length() < MIN_SEARCH_LENGTH) {
+            throw new BadRequestException("Search query must be at least " + MIN_SEARCH_LENGTH + " characters");
+        }
+
+        // Escape LIKE wildcards so the user's text is matched literally
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        String pattern = mode == SearchMode.PREFIX ? escaped + "%" : "%" + escaped + "%";
+
+        int zeroBased = Math.max(page, 1) - 1;
+        Page<AccountSummary> pageResult = accountRepository.search(pattern, PageRequest.of(zeroBased, size));
+
+        return pagedResponse(
+                pageResult,
+                pageResult.getTotalElements(),
+                pageResult.getNumber() + 1,
+                pageResult.getSize(),
+                pageResult.getTotalPages()
+        );
+    }
+
+    private <T> List<T> validateBulkSize(List<T> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("At least one item is required");
+        }
+        if (items.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("At most " + MAX_BULK_SIZE + " items are allowed per request");
+        }
+        return items;
+    }
+
+    // Account numbers are random; rows that hit a number already taken get a new one and are inserted again
+    private List<AccountResponse> insertWithUniqueNumbers(List<String> holderNames) {
+        RandomUtil randomUtil = new RandomUtil();
+        String[] numbers = new String[holderNames.size()];
+        Long[] ids = new Long[holderNames.size()];
+        List<Integer> pending = IntStream.range(0, holderNames.size()).boxed().toList();
+
+        for (int attempt = 0; attempt < MAX_NUMBER_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            Set<String> drawn = new HashSet<>();
+            List<Account> batch = new ArrayList<>(pending.size());
+            for (int i : pending) {
+                String number;
+                do {
+                    number = randomUtil.generateAccountNum();
+                } while (!drawn.add(number));
+                numbers[i] = number;
+                batch.add(Account.builder().accountNumber(number).holderName(holderNames.get(i)).build());
+            }
+
+            Map<String, Long> inserted = accountJdbcRepository.insertAll(batch);
+            List<Integer> taken = new ArrayList<>();
+            for (int i : pending) {
+                ids[i] = inserted.get(numbers[i]);
+                if (ids[i] == null) {
+                    taken.add(i);
+                }
+            }
+            pending = taken;
+        }
+        if (!pending.isEmpty()) {
+            throw new ConflictException("Could not allocate unique account numbers, please retry");
+        }
+
+        return IntStream.range(0, holderNames.size())
+                .mapToObj(i -> new AccountResponse(ids[i], numbers[i], holderNames.get(i)))
+                .toList();
     }
 
     private AccountResponse toResponse(Account account) {
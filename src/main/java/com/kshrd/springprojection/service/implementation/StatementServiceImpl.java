@@ -0,0 +1,309 @@
+package com.kshrd.springprojection.service.implementation;
+
+import com.kshrd.springprojection.archive.TransactionArchive;
+import com.kshrd.springprojection.dto.response.StatementRunResponse;
+import com.kshrd.springprojection.enumeration.TransactionType;
+import com.kshrd.springprojection.exception.BadRequestException;
+import com.kshrd.springprojection.exception.ConflictException;
+import com.kshrd.springprojection.exception.ServerErrorException;
+import com.kshrd.springprojection.money.Money;
+import com.kshrd.springprojection.service.StatementService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes monthly statements for all accounts. Account ids are split into contiguous ranges
+ * handed to a fixed pool of workers; each range costs one grouped query for the opening
+ * balances and one streamed query over the month, ordered by the (account_id, timestamp)
+ * index, and is written to its own CSV file. Balances are signed by
+ * {@link TransactionType#getBalanceSign()}, with archived rows included in the opening balance.
+ */
+@Slf4j
+@Service
+public class StatementServiceImpl implements StatementService {
+
+    private static final int PARTITIONS_PER_WORKER = 4;
+    private static final int MAX_DEFAULT_WORKERS = 8;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final boolean scheduled;
+    private final Path directory;
+    private final int workers;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionArchive transactionArchive;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StatementServiceImpl(
+            @Value("${statements.scheduled:false}") boolean scheduled,
+            @Value("${statements.directory:statements}") Path directory,
+            @Value("${statements.workers:0}") int workers,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            TransactionArchive transactionArchive
+    ) {
+        this.scheduled = scheduled;
+        this.directory = directory;
+        // Every worker holds a pooled connection for its whole partition
+        this.workers = workers > 0 ? workers : Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_WORKERS);
+        // Own template so the fetch size does not leak into the shared one; PostgreSQL
+        // only streams with a fetch size inside a transaction
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(10_000);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionArchive = transactionArchive;
+    }
+
+    @Scheduled(cron = "${statements.cron:0 0 4 1 * *}")
+    public void generatePreviousMonth() {
+        if (scheduled) {
+            generate(YearMonth.now().minusMonths(1));
+        }
+    }
+
+    @Override
+    public StatementRunResponse generate(YearMonth month) {
+        if (month.isAfter(YearMonth.now())) {
+            throw new BadRequestException("Statements cannot be generated for future months");
+        }
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        if (transactionArchive.reaches(start, end)) {
+            throw new BadRequestException("Transactions of " + month + " are archived and no longer in the live table");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("A statement run is already in progress");
+        }
+        try {
+            return run(month, start, end);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private StatementRunResponse run(YearMonth month, LocalDateTime start, LocalDateTime end) {
+        long begin = System.nanoTime();
+        List<AccountRow> accounts = jdbcTemplate.query(
+                "SELECT id, account_number FROM accounts ORDER BY id",
+                (rs, i) -> new AccountRow(rs.getLong(1), rs.getString(2))
+        );
+        Map<Long, Long> archivedOpening = archivedBalances(start);
+        Path monthDirectory = directory.resolve(month.toString());
+
+        List<List<AccountRow>> partitions = partition(accounts, workers * PARTITIONS_PER_WORKER);
+        long transactions = 0;
+        try (ExecutorService pool = Executors.newFixedThreadPool(workers)) {
+            Files.createDirectories(monthDirectory);
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < partitions.size(); i++) {
+                Path file = monthDirectory.resolve(String.format("statements-%s-%03d.csv", month, i));
+                List<AccountRow> partition = partitions.get(i);
+                results.add(pool.submit(() -> writePartition(partition, start, end, archivedOpening, file)));
+            }
+            for (Future<Long> result : results) {
+                transactions += result.get();
+            }
+        } catch (IOException | ExecutionException e) {
+            throw new ServerErrorException("Statement run for " + month + " failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerErrorException("Statement run for " + month + " was interrupted");
+        }
+
+        long elapsedMillis = Math.max((System.nanoTime() - begin) / 1_000_000, 1);
+        StatementRunResponse response = new StatementRunResponse(
+                month.toString(),
+                accounts.size(),
+                transactions,
+                partitions.size(),
+                workers,
+                elapsedMillis,
+                accounts.size() * 1000.0 / elapsedMillis,
+                transactions * 1000.0 / elapsedMillis,
+                monthDirectory.toAbsolutePath().toString()
+        );
+        log.info("Wrote {} statements ({} transactions) for {} in {} ms with {} workers: {} accounts/s",
+                accounts.size(), transactions, month, elapsedMillis, workers, Math.round(response.accountsPerSecond()));
+        return response;
+    }
+
+    private long writePartition(
+            List<AccountRow> accounts,
+            LocalDateTime start,
+            LocalDateTime end,
+            Map<Long, Long> archivedOpening,
+            Path file
+    ) throws IOException {
+        long lowId = accounts.getFirst().id();
+        long highId = accounts.getLast().id();
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        Long rows;
+        try {
+            rows = transactionTemplate.execute(status -> {
+                Map<Long, Long> opening = new HashMap<>();
+                jdbcTemplate.query("""
+                        SELECT account_id, type, CAST(SUM(amount) * 100 AS BIGINT)
+                        FROM transactions
+                        WHERE account_id BETWEEN ? AND ? AND timestamp < ?
+                        GROUP BY account_id, type
+                        """, rs -> {
+                    opening.merge(rs.getLong(1), balanceSign(rs.getString(2)) * rs.getLong(3), Long::sum);
+                }, lowId, highId, Timestamp.valueOf(start));
+
+                try (BufferedWriter out = Files.newBufferedWriter(temporary)) {
+                    PartitionWriter writer = new PartitionWriter(out, accounts, opening, archivedOpening);
+                    jdbcTemplate.query("""
+                            SELECT account_id, type, CAST(amount * 100 AS BIGINT)
+                            FROM transactions
+                            WHERE account_id BETWEEN ? AND ? AND timestamp >= ? AND timestamp < ?
+                            ORDER BY account_id, timestamp
+                            """, rs -> {
+                        writer.add(rs.getLong(1), rs.getString(2), rs.getLong(3));
+                    }, lowId, highId, Timestamp.valueOf(start), Timestamp.valueOf(end));
+                    writer.finish();
+                    return writer.rows;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return rows == null ? 0 : rows;
+    }
+
+    private Map<Long, Long> archivedBalances(LocalDateTime before) {
+        Map<Long, Long> balances = new HashMap<>();
+        if (transactionArchive.reaches(BEGINNING, before)) {
+            transactionArchive.scan(BEGINNING, before, row ->
+                    balances.merge(row.accountId(), balanceSign(row.type()) * row.amountMinorUnits(), Long::sum));
+        }
+        return balances;
+    }
+
+    static List<List<AccountRow>> partition(List<AccountRow> accounts, int count) {
+        List<List<AccountRow>> partitions = new ArrayList<>();
+        int size = Math.max(1, (accounts.size() + count - 1) / count);
+        for (int from = 0; from < accounts.size(); from += size) {
+            partitions.add(accounts.subList(from, Math.min(from + size, accounts.size())));
+        }
+        return partitions;
+    }
+
+    private static int typeIndex(String type) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i].name().equals(type)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Types unknown to TransactionType do not move the balance
+    private static long balanceSign(String type) {
+        int index = typeIndex(type);
+        return index < 0 ? 0 : TYPES[index].getBalanceSign();
+    }
+
+    record AccountRow(long id, String accountNumber) {}
+
+    // Receives the month's rows in account order and writes one line per account, including accounts without activity
+    static final class PartitionWriter {
+        private final BufferedWriter out;
+        private final List<AccountRow> accounts;
+        private final Map<Long, Long> opening;
+        private final Map<Long, Long> archivedOpening;
+        private final long[] counts = new long[TYPES.length];
+        private final long[] totals = new long[TYPES.length];
+        private int next;
+        long rows;
+
+        PartitionWriter(BufferedWriter out, List<AccountRow> accounts, Map<Long, Long> opening, Map<Long, Long> archivedOpening)
+                throws IOException {
+            this.out = out;
+            this.accounts = accounts;
+            this.opening = opening;
+            this.archivedOpening = archivedOpening;
+            out.write("account_id,account_number,opening_balance");
+            for (TransactionType type : TYPES) {
+                out.write("," + type.getFieldName() + "_count," + type.getFieldName() + "_total");
+            }
+            out.write(",closing_balance\n");
+        }
+
+        void add(long accountId, String type, long amountMinorUnits) {
+            while (next < accounts.size() && accounts.get(next).id() < accountId) {
+                writeCurrent();
+            }
+            // An account created after the id list was read has no statement in this run
+            if (next == accounts.size() || accounts.get(next).id() != accountId) {
+                return;
+            }
+            int index = typeIndex(type);
+            if (index >= 0) {
+                counts[index]++;
+                totals[index] += amountMinorUnits;
+            }
+            rows++;
+        }
+
+        void finish() {
+            while (next < accounts.size()) {
+                writeCurrent();
+            }
+        }
+
+        private void writeCurrent() {
+            AccountRow account = accounts.get(next++);
+            long balance = opening.getOrDefault(account.id(), 0L) + archivedOpening.getOrDefault(account.id(), 0L);
+            StringBuilder line = new StringBuilder()
+                    .append(account.id()).append(',')
+                    .append(account.accountNumber()).append(',')
+                    .append(Money.ofMinorUnits(balance));
+            for (int i = 0; i < TYPES.length; i++) {
+                line.append(',').append(counts[i])
+                        .append(',').append(Money.ofMinorUnits(totals[i]));
+                balance += TYPES[i].getBalanceSign() * totals[i];
+            }
+            line.append(',').append(Money.ofMinorUnits(balance)).append('\n');
+            try {
+                out.write(line.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Arrays.fill(counts, 0);
+            Arrays.fill(totals, 0);
+        }
+    }
+}
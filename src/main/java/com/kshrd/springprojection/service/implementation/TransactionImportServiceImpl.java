@@ -0,0 +1,372 @@
+package com.kshrd.springprojection.service.implementation;
+
+import com.kshrd.springprojection.cache.CacheInvalidationBus;
+import com.kshrd.springprojection.dto.request.ImportRequest;
+import com.kshrd.springprojection.dto.response.ImportStatusResponse;
+import com.kshrd.springprojection.enumeration.ImportState;
+import com.kshrd.springprojection.enumeration.TransactionType;
+import com.kshrd.springprojection.exception.BadRequestException;
+import com.kshrd.springprojection.exception.ConflictException;
+import com.kshrd.springprojection.exception.NotFoundException;
+import com.kshrd.springprojection.service.TransactionImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports historical transactions from CSV files ({@code account_id,amount,type,timestamp},
+ * optional header) placed in the import directory. The file is split into newline-aligned
+ * byte ranges that are read, parsed and validated in parallel and streamed to PostgreSQL
+ * with {@code COPY}, one transaction per range. The range is recorded in
+ * {@code import_checkpoints} in the same transaction as its {@code COPY}, so a restarted import
+ * skips exactly the ranges that committed and a crash can never load a range twice.
+ * <p>
+ * Rows are loaded outside the service layer: no change events are published; instead caches
+ * are cleared and the in-memory snapshot is reloaded on all instances once at the end.
+ */
+@Slf4j
+@Service
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final String COPY_SQL =
+            "COPY transactions (account_id, amount, type, timestamp) FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_CHECKPOINT_SQL = """
+            INSERT INTO import_checkpoints (file_name, file_size, range_start, range_end, rows_imported)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String HEADER_PREFIX = "account_id";
+    private static final int MAX_AMOUNT_DIGITS = 15;
+    // Same types the API accepts; transfer legs only come in pairs from the transfer endpoint
+    private static final Set<TransactionType> IMPORTABLE_TYPES = EnumSet.of(TransactionType.DEPOSIT, TransactionType.WITHDRAWAL);
+
+    private final Path directory;
+    private final int chunkBytes;
+    private final int parallelism;
+    private final int maxErrors;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public TransactionImportServiceImpl(
+            @Value("${transactions.import.directory:imports}") Path directory,
+            @Value("${transactions.import.chunk-bytes:8388608}") int chunkBytes,
+            @Value("${transactions.import.parallelism:0}") int parallelism,
+            @Value("${transactions.import.max-errors:100}") int maxErrors,
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            CacheInvalidationBus cacheInvalidationBus
+    ) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.chunkBytes = chunkBytes;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxErrors = maxErrors;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @Override
+    public ImportStatusResponse start(ImportRequest req) {
+        Path file = directory.resolve(req.fileName()).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            throw new BadRequestException("File " + req.fileName() + " not found in the import directory");
+        }
+        synchronized (jobs) {
+            boolean running = jobs.values().stream()
+                    .anyMatch(job -> job.file.equals(file) && job.state == ImportState.RUNNING);
+            if (running) {
+                throw new ConflictException("An import of " + req.fileName() + " is already running");
+            }
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), file, req.fileName());
+            jobs.put(job.id, job);
+            Thread.ofVirtual().name("transaction-import-" + job.id).start(() -> run(job));
+            return job.toResponse();
+        }
+    }
+
+    @Override
+    public ImportStatusResponse getStatus(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new NotFoundException("Import with ID " + id + " not found");
+        }
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job) {
+        try (FileChannel channel = FileChannel.open(job.file, StandardOpenOption.READ);
+             ExecutorService workers = Executors.newFixedThreadPool(parallelism)) {
+            long[] accountIds = jdbcTemplate.queryForList("SELECT id FROM accounts ORDER BY id", Long.class)
+                    .stream().mapToLong(Long::longValue).toArray();
+            job.totalBytes = channel.size();
+            NavigableMap<Long, Long> committed = readCheckpoints(checkpointName(job), job.totalBytes);
+
+            List<long[]> ranges = plan(channel);
+            List<Future<?>> pending = new ArrayList<>();
+            for (long[] range : ranges) {
+                if (Long.valueOf(range[1]).equals(committed.get(range[0]))) {
+                    job.chunksSkipped++;
+                    job.processedBytes.addAndGet(range[1] - range[0]);
+                    continue;
+                }
+                if (overlapsCommitted(committed, range[0], range[1])) {
+                    throw new IllegalStateException("Bytes " + range[0] + "-" + range[1] + " of " + job.fileName
+                            + " were partly imported with a different chunk size; import with the original chunk size");
+                }
+                pending.add(workers.submit(() -> {
+                    load(job, channel, range[0], range[1], accountIds);
+                    return null;
+                }));
+            }
+            for (Future<?> future : pending) {
+                future.get();
+            }
+            job.finish(ImportState.COMPLETED, null);
+            log.info("Imported {} rows from {} ({} rejected) at {} rows/s",
+                    job.rowsImported.get(), job.fileName, job.rowsRejected.get(), Math.round(job.rowsPerSecond()));
+        } catch (ExecutionException e) {
+            job.finish(ImportState.FAILED, e.getCause().getMessage());
+            log.error("Import of {} failed, rerun it to resume from the last committed chunk", job.fileName, e.getCause());
+        } catch (Exception e) {
+            job.finish(ImportState.FAILED, e.getMessage());
+            log.error("Import of {} failed, rerun it to resume from the last committed chunk", job.fileName, e);
+        } finally {
+            cacheInvalidationBus.invalidateEverywhere();
+        }
+    }
+
+    // Range boundaries depend only on the file and chunk size, so a rerun produces the same ranges
+    private List<long[]> plan(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<long[]> ranges = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkBytes < size ? nextLineStart(channel, start + chunkBytes) : size;
+            ranges.add(new long[]{start, end});
+            start = end;
+        }
+        return ranges;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long size = channel.size();
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private void load(ImportJob job, FileChannel channel, long start, long end, long[] accountIds) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+        String text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+
+        StringBuilder out = new StringBuilder(text.length());
+        int rows = 0;
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            String line = text.substring(lineStart, lineEnd).strip();
+            boolean header = start == 0 && lineStart == 0 && line.startsWith(HEADER_PREFIX);
+            if (!line.isEmpty() && !header) {
+                String error = appendRow(out, line, accountIds);
+                if (error == null) {
+                    rows++;
+                } else {
+                    job.reject("byte " + (start + lineStart) + ": " + error, maxErrors);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        // The COPY and its checkpoint row commit together; a second loader of the same range hits the primary key
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (rows > 0) {
+                    connection.unwrap(PGConnection.class).getCopyAPI()
+                            .copyIn(COPY_SQL, new ByteArrayInputStream(out.toString().getBytes(StandardCharsets.UTF_8)));
+                }
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_CHECKPOINT_SQL)) {
+                    statement.setString(1, checkpointName(job));
+                    statement.setLong(2, job.totalBytes);
+                    statement.setLong(3, start);
+                    statement.setLong(4, end);
+                    statement.setInt(5, rows);
+                    statement.executeUpdate();
+                }
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+        job.rowsImported.addAndGet(rows);
+        job.processedBytes.addAndGet(end - start);
+    }
+
+    // Appends the normalized row, or returns why it was rejected
+    private static String appendRow(StringBuilder out, String line, long[] accountIds) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 4) {
+            return "expected 4 fields but found " + fields.length;
+        }
+        long accountId;
+        BigDecimal amount;
+        TransactionType type;
+        LocalDateTime timestamp;
+        try {
+            accountId = Long.parseLong(fields[0].strip());
+            amount = new BigDecimal(fields[1].strip());
+            type = TransactionType.valueOf(fields[2].strip().toUpperCase());
+            timestamp = LocalDateTime.parse(fields[3].strip());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return "malformed row '" + line + "'";
+        }
+        if (!IMPORTABLE_TYPES.contains(type)) {
+            return "type " + type + " cannot be imported, expected DEPOSIT or WITHDRAWAL";
+        }
+        if (Arrays.binarySearch(accountIds, accountId) < 0) {
+            return "account " + accountId + " does not exist";
+        }
+        if (amount.signum() <= 0) {
+            return "amount must be positive";
+        }
+        BigDecimal normalized = amount.stripTrailingZeros();
+        if (Math.max(normalized.scale(), 0) > 2 || normalized.precision() - normalized.scale() > MAX_AMOUNT_DIGITS) {
+            return "amount " + amount.toPlainString() + " exceeds 15 integer digits or 2 decimals";
+        }
+        out.append(accountId).append(',')
+                .append(amount.toPlainString()).append(',')
+                .append(type.name()).append(',')
+                .append(timestamp).append('\n');
+        return null;
+    }
+
+    // Path inside the import directory, so "a.csv" and "./a.csv" share their checkpoints
+    private String checkpointName(ImportJob job) {
+        return directory.relativize(job.file).toString();
+    }
+
+    // Committed ranges of this file as start -> end
+    private NavigableMap<Long, Long> readCheckpoints(String fileName, long fileSize) {
+        NavigableMap<Long, Long> committed = new TreeMap<>();
+        jdbcTemplate.query("SELECT range_start, range_end FROM import_checkpoints WHERE file_name = ? AND file_size = ?",
+                rs -> {
+                    committed.put(rs.getLong("range_start"), rs.getLong("range_end"));
+                }, fileName, fileSize);
+        return committed;
+    }
+
+    private static boolean overlapsCommitted(NavigableMap<Long, Long> committed, long start, long end) {
+        Map.Entry<Long, Long> before = committed.lowerEntry(end);
+        return before != null && before.getValue() > start;
+    }
+
+    private static final class ImportJob {
+        private final String id;
+        private final Path file;
+        private final String fileName;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong processedBytes = new AtomicLong();
+        private final AtomicLong rowsImported = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final List<String> errors = new ArrayList<>();
+        private volatile long totalBytes;
+        private volatile int chunksSkipped;
+        private volatile ImportState state = ImportState.RUNNING;
+        private volatile String failure;
+        private volatile Instant finishedAt;
+
+        private ImportJob(String id, Path file, String fileName) {
+            this.id = id;
+            this.file = file;
+            this.fileName = fileName;
+        }
+
+        private void reject(String error, int maxErrors) {
+            rowsRejected.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < maxErrors) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        private void finish(ImportState state, String failure) {
+            this.failure = failure;
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+
+        private double rowsPerSecond() {
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            long millis = Math.max(Duration.between(startedAt, end).toMillis(), 1);
+            return rowsImported.get() * 1000.0 / millis;
+        }
+
+        private ImportStatusResponse toResponse() {
+            List<String> errorsCopy;
+            synchronized (errors) {
+                errorsCopy = List.copyOf(errors);
+            }
+            return new ImportStatusResponse(
+                    id, fileName, state, totalBytes, processedBytes.get(),
+                    rowsImported.get(), rowsRejected.get(), chunksSkipped, rowsPerSecond(),
+                    errorsCopy, failure, startedAt, finishedAt
+            );
+        }
+    }
+}
@@ -1,41 +1,97 @@
 package com.kshrd.springprojection.service.implementation;
 
+import com.kshrd.springprojection.archive.TransactionArchive;
+import com.kshrd.springprojection.cache.ProjectionResultCache;
+import com.kshrd.springprojection.cache.RequestCoalescer;
 import com.kshrd.springprojection.dto.baseResponse.PagedResponse;
 import com.kshrd.springprojection.dto.baseResponse.PaginationInfo;
+import com.kshrd.springprojection.dto.projection.AccountTotal;
+import com.kshrd.springprojection.dto.projection.AccountTotalDto;
+import com.kshrd.springprojection.dto.projection.DashboardDto;
+import com.kshrd.springprojection.dto.projection.DashboardTotals;
+import com.kshrd.springprojection.dto.projection.TimeBucketDto;
+import com.kshrd.springprojection.dto.projection.TimeBucketTotal;
 import com.kshrd.springprojection.dto.projection.TransactionSummary;
+import com.kshrd.springprojection.dto.projection.TransactionSummaryDto;
 import com.kshrd.springprojection.dto.projection.TransactionWithAccount;
+import com.kshrd.springprojection.dto.projection.TypeTotalDto;
+import com.kshrd.springprojection.dto.request.BulkTypeUpdateRequest;
+import com.kshrd.springprojection.dto.request.TransactionPatchRequest;
 import com.kshrd.springprojection.dto.request.TransactionRequest;
+import com.kshrd.springprojection.dto.request.TransferRequest;
 import com.kshrd.springprojection.dto.response.AccountResponse;
+import com.kshrd.springprojection.dto.response.BulkOperationResponse;
 import com.kshrd.springprojection.dto.response.TransactionResponse;
+import com.kshrd.springprojection.dto.response.TransferResponse;
 import com.kshrd.springprojection.entity.Account;
 import com.kshrd.springprojection.entity.Transaction;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.enumeration.TimeBucket;
 import com.kshrd.springprojection.enumeration.TransactionProperty;
+import com.kshrd.springprojection.enumeration.TransactionType;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
 import com.kshrd.springprojection.exception.BadRequestException;
+import com.kshrd.springprojection.exception.ConflictException;
 import com.kshrd.springprojection.exception.NotFoundException;
+import com.kshrd.springprojection.money.Money;
 import com.kshrd.springprojection.repository.AccountRepository;
+import com.kshrd.springprojection.repository.TransactionJdbcRepository;
 import com.kshrd.springprojection.repository.TransactionRepository;
 import com.kshrd.springprojection.service.TransactionService;
+import com.kshrd.springprojection.snapshot.TransactionColumnStore;
+import com.kshrd.springprojection.utils.MoneyUtil;
+import com.kshrd.springprojection.utils.StripedLock;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import static com.kshrd.springprojection.utils.ResponseUtil.pagedResponse;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int DEFAULT_WINDOW_DAYS = 30;
+    private static final int MAX_TOP_ACCOUNTS = 100;
+    private static final long MAX_BUCKETS = 10_000;
+    private static final int BULK_CHUNK_SIZE = 1_000;
+    private static final int MAX_BULK_IDS = 10_000;
+    private static final int MAX_HISTORY_ROWS = 10_000;
+    private static final int TRANSFER_LOCK_STRIPES = 256;
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionColumnStore columnStore;
+    private final ProjectionResultCache projectionResultCache;
+    private final TransactionArchive transactionArchive;
+    private final RequestCoalescer requestCoalescer;
+    // Hot accounts queue here instead of holding pooled connections while waiting on row locks
+    private final StripedLock transferLocks = new StripedLock(TRANSFER_LOCK_STRIPES);
 
     @Override
     public List<TransactionWithAccount> getByType(String type) {
@@ -46,13 +102,24 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionRepository.findByType(type.toUpperCase());
     }
 
+    // Cache hits must not take a connection; a miss runs the repository's own read-only transaction
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @SuppressWarnings("unchecked")
     public <T> List<T> getByAmountGreaterThan(BigDecimal amount, Class<T> type) {
-        if (Objects.isNull(amount) || amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (Objects.isNull(amount) || amount.signum() < 0) {
             throw new BadRequestException("Amount must be a positive value");
         }
 
-        return transactionRepository.findByAmountGreaterThan(amount, type);
+        // Amounts are whole cents, so "amount > threshold" equals "amount > floor(threshold)" for any request scale
+        Money threshold = Money.ofMinorUnits(MoneyUtil.toMinorUnitsFloor(amount));
+        return projectionResultCache.get(threshold, type, () -> {
+            TransactionColumnStore store = readySnapshot();
+            if (store != null && type == TransactionSummary.class) {
+                return (List<T>) store.findByAmountGreaterThan(threshold);
+            }
+            return transactionRepository.findByAmountGreaterThan(threshold, type);
+        });
     }
 
     @Override
@@ -70,16 +137,57 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction tx = Transaction.builder()
                 .id(null)
                 .account(account)
-                .amount(req.amount())
+                .amount(Money.of(req.amount()))
                 .type(req.type())
                 .timestamp(LocalDateTime.now())
                 .build();
 
         Transaction saved = transactionRepository.save(tx);
+        eventPublisher.publishEvent(TransactionChangedEvent.of(ChangeType.CREATED, saved));
 
         return mapToResponse(saved);
     }
 
+    // Rows are locked in ascending id order, so two transfers between the same accounts never deadlock
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransferResponse transfer(TransferRequest req) {
+        if (req.fromAccountId().equals(req.toAccountId())) {
+            throw new BadRequestException("Source and destination accounts must differ");
+        }
+        long lowerId = Math.min(req.fromAccountId(), req.toAccountId());
+        long upperId = Math.max(req.fromAccountId(), req.toAccountId());
+
+        return transferLocks.withLocks(lowerId, upperId, () -> transactionTemplate.execute(status -> {
+            Account lower = accountRepository.findByIdForUpdate(lowerId)
+                    .orElseThrow(() -> new NotFoundException("Account not found with id " + lowerId));
+            Account upper = accountRepository.findByIdForUpdate(upperId)
+                    .orElseThrow(() -> new NotFoundException("Account not found with id " + upperId));
+            Account from = lower.getId().equals(req.fromAccountId()) ? lower : upper;
+            Account to = from == lower ? upper : lower;
+
+            UUID transferId = UUID.randomUUID();
+            LocalDateTime now = LocalDateTime.now();
+            Money amount = Money.of(req.amount());
+            Transaction debit = transactionRepository.save(transferLeg(transferId, from, amount, TransactionType.TRANSFER_OUT, now));
+            Transaction credit = transactionRepository.save(transferLeg(transferId, to, amount, TransactionType.TRANSFER_IN, now));
+            eventPublisher.publishEvent(TransactionChangedEvent.of(ChangeType.CREATED, debit));
+            eventPublisher.publishEvent(TransactionChangedEvent.of(ChangeType.CREATED, credit));
+
+            return new TransferResponse(transferId, mapToResponse(debit), mapToResponse(credit));
+        }));
+    }
+
+    private static Transaction transferLeg(UUID transferId, Account account, Money amount, TransactionType type, LocalDateTime timestamp) {
+        return Transaction.builder()
+                .transferId(transferId)
+                .account(account)
+                .amount(amount)
+                .type(type.name())
+                .timestamp(timestamp)
+                .build();
+    }
+
     @Override
     public TransactionResponse getById(Long id) {
         Transaction tx = transactionRepository.findById(id)
@@ -93,34 +201,90 @@ public class TransactionServiceImpl implements TransactionService {
 
         Transaction tx = transactionRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Transaction not found"));
+        rejectTransferLeg(id, tx.getType());
 
         var account = accountRepository.findById(req.accountId())
                 .orElseThrow(() -> new NotFoundException("Account not found"));
 
-        tx.setAmount(req.amount());
+        tx.setAmount(Money.of(req.amount()));
         tx.setType(req.type());
         tx.setAccount(account);
 
         Transaction updated = transactionRepository.save(tx);
+        eventPublisher.publishEvent(TransactionChangedEvent.of(ChangeType.UPDATED, updated));
 
         return mapToResponse(updated);
     }
 
+    @Override
+    public TransactionResponse patch(Long id, TransactionPatchRequest req) {
+        if (req.amount() == null && req.type() == null && req.accountId() == null) {
+            throw new BadRequestException("At least one field is required");
+        }
+
+        TransactionResponse patched;
+        try {
+            patched = transactionJdbcRepository.patch(id, req.amount(), req.type(), req.accountId())
+                    .orElseThrow(() -> missingOrTransferLeg(id));
+        } catch (DataIntegrityViolationException e) {
+            // Only the account foreign key can be violated by a patch
+            throw new NotFoundException("Account not found");
+        }
+
+        eventPublisher.publishEvent(new TransactionChangedEvent(
+                ChangeType.UPDATED,
+                patched.id(),
+                patched.amount(),
+                patched.type(),
+                patched.accountId(),
+                patched.timestamp()
+        ));
+        return patched;
+    }
+
     @Override
     public void delete(Long id) {
-        boolean exists = transactionRepository.existsById(id);
-        if (!exists) {
-            throw new NotFoundException("Transaction not found");
+        if (!transactionJdbcRepository.deleteOne(id)) {
+            throw missingOrTransferLeg(id);
         }
-        transactionRepository.deleteById(id);
+        eventPublisher.publishEvent(TransactionChangedEvent.deleted(id));
     }
 
+    // Coalesced reads run without a service transaction so waiting callers do not hold a connection
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PagedResponse<Page<TransactionSummary>> getPaged(
             Integer page,
             Integer size,
             Sort.Direction direction,
             TransactionProperty sortBy
+    ) {
+        return requestCoalescer.execute(
+                "transactions.paged",
+                () -> loadPage(page, size, direction, sortBy),
+                page, size, direction, sortBy
+        );
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public DashboardDto getDashboardStats() {
+        return requestCoalescer.execute("transactions.dashboard", () -> {
+            DashboardTotals totals = transactionRepository.getDashboardStats();
+            return new DashboardDto(
+                    totals.getTotalTransactions(),
+                    totals.getTotalAmountMinorUnits(),
+                    totals.getDepositCount(),
+                    totals.getWithdrawalCount()
+            );
+        });
+    }
+
+    private PagedResponse<Page<TransactionSummary>> loadPage(
+            Integer page,
+            Integer size,
+            Sort.Direction direction,
+            TransactionProperty sortBy
     ) {
         int zeroBased = Math.max(page, 1) - 1;
 
@@ -146,6 +310,303 @@ public class TransactionServiceImpl implements TransactionService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionSummary> getHistory(LocalDateTime from, LocalDateTime to, Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_HISTORY_ROWS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_HISTORY_ROWS);
+        }
+
+        LocalDateTime end = windowEnd(to);
+        LocalDateTime start = windowStart(from, end);
+
+        List<TransactionSummary> hot = transactionRepository.findInTimeRange(start, end, PageRequest.of(0, limit));
+        if (!transactionArchive.reaches(start, end)) {
+            return hot;
+        }
+
+        // Archived rows are the older ones, so they come first; an id still in the hot table wins
+        Set<Long> hotIds = new HashSet<>();
+        hot.forEach(t -> hotIds.add(t.getId()));
+
+        List<TransactionSummary> result = new ArrayList<>(limit);
+        transactionArchive.scan(start, end, row -> {
+            if (result.size() < limit && !hotIds.contains(row.id())) {
+                result.add(new TransactionSummaryDto(row.id(), Money.ofMinorUnits(row.amountMinorUnits()), row.type()));
+            }
+        });
+        for (TransactionSummary t : hot) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(t);
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TypeTotalDto> getTotalsByType(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = windowEnd(to);
+        LocalDateTime start = windowStart(from, end);
+
+        TransactionColumnStore store = readySnapshot();
+        List<TypeTotalDto> hot = store != null
+                ? store.totalsByType(start, end)
+                : transactionRepository.getTotalsByType(start, end)
+                        .stream()
+                        .map(row -> new TypeTotalDto(row.getType(), row.getCount(), row.getTotalAmountMinorUnits()))
+                        .toList();
+
+        if (!transactionArchive.reaches(start, end)) {
+            return hot;
+        }
+
+        // type -> [count, sum in minor units]
+        Map<String, long[]> totals = new TreeMap<>();
+        hot.forEach(t -> totals.put(t.type(), new long[]{t.count(), t.totalAmount().minorUnits()}));
+        transactionArchive.scan(start, end, row -> {
+            long[] total = totals.computeIfAbsent(row.type(), type -> new long[2]);
+            total[0]++;
+            total[1] += row.amountMinorUnits();
+        });
+
+        return totals.entrySet()
+                .stream()
+                .map(e -> new TypeTotalDto(e.getKey(), e.getValue()[0], Money.ofMinorUnits(e.getValue()[1])))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<Page<AccountTotalDto>> getTotalsByAccount(
+            LocalDateTime from,
+            LocalDateTime to,
+            Integer page,
+            Integer size
+    ) {
+        LocalDateTime end = windowEnd(to);
+        LocalDateTime start = windowStart(from, end);
+        rejectArchivedWindow(start, end);
+
+        int zeroBased = Math.max(page, 1) - 1;
+        Page<AccountTotalDto> pageResult = transactionRepository.getTotalsByAccount(
+                start,
+                end,
+                PageRequest.of(zeroBased, size)
+        ).map(TransactionServiceImpl::toAccountTotal);
+
+        return pagedResponse(
+                pageResult,
+                pageResult.getTotalElements(),
+                pageResult.getNumber() + 1,
+                pageResult.getSize(),
+                pageResult.getTotalPages()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountTotalDto> getTopAccounts(LocalDateTime from, LocalDateTime to, Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_TOP_ACCOUNTS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_TOP_ACCOUNTS);
+        }
+
+        LocalDateTime end = windowEnd(to);
+        LocalDateTime start = windowStart(from, end);
+        rejectArchivedWindow(start, end);
+
+        return transactionRepository.getTopAccountsByVolume(start, end, PageRequest.of(0, limit))
+                .stream()
+                .map(TransactionServiceImpl::toAccountTotal)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeBucketDto> getTotalsByTimeBucket(LocalDateTime from, LocalDateTime to, TimeBucket bucket) {
+        LocalDateTime end = windowEnd(to);
+        LocalDateTime start = windowStart(from, end);
+
+        long windowSeconds = Duration.between(start, end).getSeconds();
+        if (windowSeconds / bucket.getSeconds() > MAX_BUCKETS) {
+            throw new BadRequestException("Time window is too large for " + bucket.getFieldName() + " buckets");
+        }
+
+        List<TimeBucketTotal> hot = transactionRepository.getTotalsByTimeBucket(start, end, bucket.getSeconds());
+        if (!transactionArchive.reaches(start, end)) {
+            return hot.stream()
+                    .map(row -> timeBucket(row.getBucketStart(), row.getCount(), row.getTotalAmountMinorUnits()))
+                    .toList();
+        }
+
+        // bucket start in epoch seconds -> [count, sum in minor units]
+        long bucketSeconds = bucket.getSeconds();
+        Map<Long, long[]> totals = new TreeMap<>();
+        hot.forEach(row -> totals.put(row.getBucketStart(), new long[]{row.getCount(), row.getTotalAmountMinorUnits()}));
+        transactionArchive.scan(start, end, row -> {
+            long bucketStart = Math.floorDiv(Math.floorDiv(row.epochMillis(), 1_000L), bucketSeconds) * bucketSeconds;
+            long[] total = totals.computeIfAbsent(bucketStart, key -> new long[2]);
+            total[0]++;
+            total[1] += row.amountMinorUnits();
+        });
+
+        return totals.entrySet()
+                .stream()
+                .map(e -> timeBucket(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .toList();
+    }
+
+    private static TimeBucketDto timeBucket(long bucketStartSeconds, long count, long totalMinorUnits) {
+        return new TimeBucketDto(
+                LocalDateTime.ofEpochSecond(bucketStartSeconds, 0, ZoneOffset.UTC),
+                count,
+                Money.ofMinorUnits(totalMinorUnits)
+        );
+    }
+
+    // Per-account totals only cover the live table, so a window reaching the archive would undercount
+    private void rejectArchivedWindow(LocalDateTime start, LocalDateTime end) {
+        if (transactionArchive.reaches(start, end)) {
+            throw new BadRequestException("Window reaches archived transactions, which per-account totals do not include");
+        }
+    }
+
+    // Bulk operations commit chunk by chunk so a large delete never holds locks on every row at once
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOperationResponse deleteByIds(List<Long> ids) {
+        List<Long> distinctIds = validateBulkIds(ids);
+        rejectTransferLegs(distinctIds);
+
+        long affected = 0;
+        int chunks = 0;
+        for (int i = 0; i < distinctIds.size(); i += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(i, Math.min(i + BULK_CHUNK_SIZE, distinctIds.size()));
+            affected += deleteChunk(() -> transactionJdbcRepository.deleteByIds(chunk));
+            chunks++;
+        }
+        return new BulkOperationResponse(affected, chunks);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOperationResponse deleteByAccount(Long accountId) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new NotFoundException("Account not found");
+        }
+        return deleteInChunks(() -> transactionJdbcRepository.deleteChunkByAccount(accountId, BULK_CHUNK_SIZE));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOperationResponse deleteByTimeRange(LocalDateTime from, LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        return deleteInChunks(() -> transactionJdbcRepository.deleteChunkByTimeRange(from, to, BULK_CHUNK_SIZE));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOperationResponse updateType(BulkTypeUpdateRequest req) {
+        List<Long> distinctIds = validateBulkIds(req.ids());
+        rejectTransferLegs(distinctIds);
+
+        long affected = 0;
+        int chunks = 0;
+        for (int i = 0; i < distinctIds.size(); i += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(i, Math.min(i + BULK_CHUNK_SIZE, distinctIds.size()));
+            Integer updated = transactionTemplate.execute(status -> {
+                List<TransactionChangedEvent> rows = transactionJdbcRepository.updateType(chunk, req.type());
+                rows.forEach(eventPublisher::publishEvent);
+                return rows.size();
+            });
+            affected += Objects.requireNonNullElse(updated, 0);
+            chunks++;
+        }
+        return new BulkOperationResponse(affected, chunks);
+    }
+
+    private BulkOperationResponse deleteInChunks(Supplier<List<Long>> chunkDelete) {
+        long affected = 0;
+        int chunks = 0;
+        int deleted;
+        do {
+            deleted = deleteChunk(chunkDelete);
+            affected += deleted;
+            chunks++;
+        } while (deleted == BULK_CHUNK_SIZE);
+        return new BulkOperationResponse(affected, chunks);
+    }
+
+    private int deleteChunk(Supplier<List<Long>> chunkDelete) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = chunkDelete.get();
+            ids.forEach(id -> eventPublisher.publishEvent(TransactionChangedEvent.deleted(id)));
+            return ids.size();
+        });
+        return Objects.requireNonNullElse(deleted, 0);
+    }
+
+    // A leg changed on its own would unbalance the transfer; no type can become a leg afterwards, so checking first is safe
+    private static void rejectTransferLeg(Long id, String type) {
+        if (TransactionType.isTransferLeg(type)) {
+            throw transferLegConflict(id);
+        }
+    }
+
+    // Only looked up after a guarded write touched no row, to answer 404 or 409
+    private RuntimeException missingOrTransferLeg(Long id) {
+        return transactionRepository.findTypeById(id)
+                .filter(TransactionType::isTransferLeg)
+                .<RuntimeException>map(type -> transferLegConflict(id))
+                .orElseGet(() -> new NotFoundException("Transaction not found"));
+    }
+
+    private static ConflictException transferLegConflict(Long id) {
+        return new ConflictException("Transaction " + id + " is part of a transfer and cannot be changed on its own");
+    }
+
+    private void rejectTransferLegs(List<Long> ids) {
+        List<Long> legs = transactionJdbcRepository.findTransferLegIds(ids);
+        if (!legs.isEmpty()) {
+            throw new ConflictException("Transactions " + legs.subList(0, Math.min(legs.size(), 10))
+                    + " are part of transfers and cannot be changed on their own");
+        }
+    }
+
+    private List<Long> validateBulkIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("At least one ID is required");
+        }
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.size() > MAX_BULK_IDS) {
+            throw new BadRequestException("At most " + MAX_BULK_IDS + " IDs are allowed per request");
+        }
+        return distinctIds;
+    }
+
+    private TransactionColumnStore readySnapshot() {
+        return columnStore.isReady() ? columnStore : null;
+    }
+
+    private LocalDateTime windowEnd(LocalDateTime to) {
+        return Objects.isNull(to) ? LocalDateTime.now() : to;
+    }
+
+    private LocalDateTime windowStart(LocalDateTime from, LocalDateTime end) {
+        LocalDateTime start = Objects.isNull(from) ? end.minusDays(DEFAULT_WINDOW_DAYS) : from;
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        return start;
+    }
+
     private TransactionResponse mapToResponse(Transaction tx) {
         return new TransactionResponse(
                 tx.getId(),
@@ -157,6 +618,16 @@ public class TransactionServiceImpl implements TransactionService {
         );
     }
 
+    private static AccountTotalDto toAccountTotal(AccountTotal row) {
+        return new AccountTotalDto(
+                row.getAccountId(),
+                row.getAccountNumber(),
+                row.getHolderName(),
+                row.getCount(),
+                row.getTotalAmountMinorUnits()
+        );
+    }
+
     private AccountResponse mapToAccountResponse(Account account) {
         return new AccountResponse(
                 account.getId(),
@@ -0,0 +1,124 @@
+package com.kshrd.springprojection.service.implementation;
+
+import com.kshrd.springprojection.dto.request.TransactionStreamFilter;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import com.kshrd.springprojection.service.TransactionStreamService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class TransactionStreamServiceImpl implements TransactionStreamService {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final Counter droppedSubscribers;
+
+    public TransactionStreamServiceImpl(
+            @Value("${transactions.stream.buffer-size:256}") int bufferSize,
+            @Value("${transactions.stream.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${transactions.stream.heartbeat-millis:15000}") long heartbeatMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.droppedSubscribers = meterRegistry.counter("transactions.stream.subscribers.dropped");
+        Gauge.builder("transactions.stream.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(TransactionStreamFilter filter) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, filter, new ArrayBlockingQueue<>(bufferSize));
+
+        // The sender is known before the subscriber becomes visible, so remove() can always interrupt it
+        subscriber.sender = Thread.ofVirtual()
+                .name("transaction-stream-", subscriber.hashCode())
+                .unstarted(() -> drain(subscriber));
+        subscribers.add(subscriber);
+        subscriber.sender.start();
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    // Runs after the writing transaction commits, so rolled-back changes are never streamed
+    @TransactionalEventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        // Archiving moves rows to cold storage; it is not a change clients need to see
+        if (event.change() == ChangeType.ARCHIVED) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.filter.matches(event)) {
+                continue;
+            }
+            if (!subscriber.buffer.offer(event)) {
+                droppedSubscribers.increment();
+                log.warn("Dropping slow transaction stream subscriber, buffer of {} events is full", bufferSize);
+                remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    // Polls rather than blocks, so a subscriber removed before its sender was interrupted still ends,
+    // and idle streams get a comment line that keeps proxies from closing them
+    private void drain(Subscriber subscriber) {
+        try {
+            while (subscribers.contains(subscriber)) {
+                TransactionChangedEvent event = subscriber.buffer.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.id()))
+                        .name(event.change().getFieldName())
+                        .data(event));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.sender.interrupt();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final TransactionStreamFilter filter;
+        private final BlockingQueue<TransactionChangedEvent> buffer;
+        private volatile Thread sender;
+
+        private Subscriber(SseEmitter emitter, TransactionStreamFilter filter, BlockingQueue<TransactionChangedEvent> buffer) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.buffer = buffer;
+        }
+    }
+}
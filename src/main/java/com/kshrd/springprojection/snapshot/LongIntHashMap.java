@@ -0,0 +1,110 @@
+package com.kshrd.springprojection.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from transaction id to snapshot row held in two primitive arrays, about
+ * 20 bytes per entry instead of a boxed {@code HashMap} node. Linear probing with backward-shift
+ * deletion, so removals leave no tombstones behind. Not thread-safe.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+    private static final double LOAD_FACTOR = 0.6;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    // MISSING marks an empty slot, so values must be non-negative
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            if (values[i] == MISSING || keys[i] == key) {
+                return values[i];
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (size >= resizeAt) {
+            rehash(keys.length * 2);
+        }
+        int i = slot(key);
+        while (values[i] != MISSING) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    int remove(long key) {
+        for (int i = slot(key); values[i] != MISSING; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                int value = values[i];
+                closeGap(i);
+                size--;
+                return value;
+            }
+        }
+        return MISSING;
+    }
+
+    // Pulls later entries of the probe run back into the freed slot when their home allows it
+    private void closeGap(int gap) {
+        for (int i = (gap + 1) & mask; values[i] != MISSING; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = MISSING;
+    }
+
+    int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != MISSING) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+}
@@ -0,0 +1,451 @@
+package com.kshrd.springprojection.snapshot;
+
+import com.kshrd.springprojection.dto.projection.TransactionSummary;
+import com.kshrd.springprojection.dto.projection.TransactionSummaryDto;
+import com.kshrd.springprojection.dto.projection.TypeTotalDto;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import com.kshrd.springprojection.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only analytic copy of the transactions table held as primitive columns.
+ * Loaded once at startup and kept current from committed service writes, it answers
+ * amount/type filters and per-type totals with parallel fork-join scans instead of SQL.
+ * Changes that arrive without events (CSV imports, missed invalidations) call {@link #reload()},
+ * which switches the snapshot off so queries use SQL until the table has been read again.
+ * A failed load is retried a few times; after that the snapshot stays off until the next reload.
+ * Enabled at runtime rather than with a bean condition so AOT-processed builds can still switch it on.
+ */
+@Slf4j
+@Component
+public class TransactionColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final int CHUNK_SIZE = 1 << 14;
+    private static final byte DELETED = -1;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final long LOAD_RETRY_MILLIS = 5_000;
+
+    private final boolean enabled;
+    private final TableReader tableReader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Writes that commit while a load reads the table; only collected while loading
+    private final List<TransactionChangedEvent> pending = new ArrayList<>();
+    private Columns columns = new Columns(0);
+    private boolean loading;
+    // Set when reload() is called while a load is already reading the table
+    private boolean reloadRequested;
+    private volatile boolean ready;
+
+    @Autowired
+    public TransactionColumnStore(
+            @Value("${transactions.snapshot.enabled:false}") boolean enabled,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this(enabled, jdbcReader(jdbcTemplate, transactionManager));
+    }
+
+    TransactionColumnStore(boolean enabled, TableReader tableReader) {
+        this.enabled = enabled;
+        this.tableReader = tableReader;
+    }
+
+    private static TableReader jdbcReader(JdbcTemplate shared, PlatformTransactionManager transactionManager) {
+        // Own template so the fetch size does not leak into the shared one; PostgreSQL
+        // only streams with a fetch size inside a transaction
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shared.getDataSource());
+        jdbcTemplate.setFetchSize(10_000);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return sink -> transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT id, CAST(amount * 100 AS BIGINT), type, account_id, timestamp FROM transactions",
+                rs -> {
+                    Timestamp timestamp = rs.getTimestamp(5);
+                    sink.accept(
+                            rs.getLong(1),
+                            rs.getLong(2),
+                            rs.getString(3),
+                            rs.getLong(4),
+                            timestamp == null ? null : timestamp.toLocalDateTime()
+                    );
+                }
+        ));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // At most one loader runs; a reload requested during a load makes it read the table again
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            if (loading) {
+                reloadRequested = true;
+                return;
+            }
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Thread.ofVirtual().name("transaction-snapshot-load").start(this::loadWithRetries);
+    }
+
+    @TransactionalEventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                apply(event);
+            } else if (loading) {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TransactionSummary> findByAmountGreaterThan(Money amount) {
+        long threshold = amount.minorUnits();
+
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            int[] rows = scan(c, (from, to, out) -> {
+                int n = 0;
+                for (int i = from; i < to; i++) {
+                    if (c.types[i] != DELETED && c.amounts[i] > threshold) {
+                        out[n++] = i;
+                    }
+                }
+                return n;
+            });
+            return toSummaries(c, rows);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<TypeTotalDto> totalsByType(LocalDateTime from, LocalDateTime to) {
+        long start = toEpochMillis(from);
+        long end = toEpochMillis(to);
+
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            int typeCount = c.typeDictionary.size();
+
+            // [code * 2] = count, [code * 2 + 1] = sum of minor units
+            long[] totals = IntStream.range(0, chunkCount(c))
+                    .parallel()
+                    .mapToObj(chunk -> {
+                        long[] partial = new long[typeCount * 2];
+                        int limit = Math.min(c.size, (chunk + 1) * CHUNK_SIZE);
+                        for (int i = chunk * CHUNK_SIZE; i < limit; i++) {
+                            byte code = c.types[i];
+                            if (code != DELETED && c.timestamps[i] >= start && c.timestamps[i] < end) {
+                                partial[code * 2]++;
+                                partial[code * 2 + 1] += c.amounts[i];
+                            }
+                        }
+                        return partial;
+                    })
+                    .reduce(new long[typeCount * 2], (a, b) -> {
+                        long[] sum = new long[a.length];
+                        Arrays.setAll(sum, i -> a[i] + b[i]);
+                        return sum;
+                    });
+
+            List<TypeTotalDto> result = new ArrayList<>();
+            for (int code = 0; code < typeCount; code++) {
+                if (totals[code * 2] > 0) {
+                    result.add(new TypeTotalDto(
+                            c.typeDictionary.get(code),
+                            totals[code * 2],
+                            Money.ofMinorUnits(totals[code * 2 + 1])
+                    ));
+                }
+            }
+            result.sort(Comparator.comparing(TypeTotalDto::type));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void loadWithRetries() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                long start = System.nanoTime();
+                beginAttempt();
+                Columns loaded = readTable();
+                if (!install(loaded)) {
+                    log.info("Transaction snapshot reload requested while loading, reading the table again");
+                    attempt = 0;
+                    continue;
+                }
+                log.info("Transaction snapshot loaded {} rows in {} ms", loaded.size, (System.nanoTime() - start) / 1_000_000);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_LOAD_ATTEMPTS) {
+                    abandon();
+                    log.error("Transaction snapshot failed to load after {} attempts, queries keep using SQL", attempt, e);
+                    return;
+                }
+                log.warn("Transaction snapshot load failed (attempt {} of {}), retrying in {} ms",
+                        attempt, MAX_LOAD_ATTEMPTS, LOAD_RETRY_MILLIS, e);
+                try {
+                    Thread.sleep(LOAD_RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    abandon();
+                    return;
+                }
+            }
+        }
+    }
+
+    // Everything committed before the read starts is in the table, so earlier buffered events
+    // and reload requests are covered by this read
+    private void beginAttempt() {
+        lock.writeLock().lock();
+        try {
+            pending.clear();
+            reloadRequested = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Columns readTable() {
+        Columns loaded = new Columns(INITIAL_CAPACITY);
+        tableReader.read((id, amountMinorUnits, type, accountId, timestamp) ->
+                loaded.upsert(id, amountMinorUnits, type, accountId, toEpochMillis(timestamp)));
+        return loaded;
+    }
+
+    // Returns false without installing when a reload was requested after the read started
+    private boolean install(Columns loaded) {
+        lock.writeLock().lock();
+        try {
+            if (reloadRequested) {
+                return false;
+            }
+            columns = loaded;
+            // Writes that committed while the table was being read are replayed on top
+            pending.forEach(this::apply);
+            pending.clear();
+            loading = false;
+            ready = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void abandon() {
+        lock.writeLock().lock();
+        try {
+            pending.clear();
+            columns = new Columns(0);
+            loading = false;
+            reloadRequested = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Called with the write lock held
+    private void apply(TransactionChangedEvent event) {
+        // Archived rows leave the hot table, so the snapshot drops them too
+        if (event.change() == ChangeType.DELETED || event.change() == ChangeType.ARCHIVED) {
+            columns.delete(event.id());
+            return;
+        }
+        columns.upsert(
+                event.id(),
+                event.amount().minorUnits(),
+                event.type(),
+                event.accountId(),
+                toEpochMillis(event.timestamp())
+        );
+    }
+
+    private static int chunkCount(Columns c) {
+        return (c.size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    // Scans fixed-size chunks in parallel on the common fork-join pool, keeping row order
+    private static int[] scan(Columns c, ChunkFilter filter) {
+        return IntStream.range(0, chunkCount(c))
+                .parallel()
+                .mapToObj(chunk -> {
+                    int from = chunk * CHUNK_SIZE;
+                    int to = Math.min(c.size, from + CHUNK_SIZE);
+                    int[] out = new int[to - from];
+                    return Arrays.copyOf(out, filter.collect(from, to, out));
+                })
+                .flatMapToInt(Arrays::stream)
+                .toArray();
+    }
+
+    private static List<TransactionSummary> toSummaries(Columns c, int[] rows) {
+        List<TransactionSummary> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(new TransactionSummaryDto(
+                    c.ids[row],
+                    Money.ofMinorUnits(c.amounts[row]),
+                    c.typeDictionary.get(c.types[row])
+            ));
+        }
+        return result;
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp == null ? Long.MIN_VALUE : timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @FunctionalInterface
+    private interface ChunkFilter {
+        int collect(int from, int to, int[] out);
+    }
+
+    // Streams every row of the transactions table; JDBC in the application, in memory in tests
+    @FunctionalInterface
+    interface TableReader {
+        void read(RowSink sink);
+    }
+
+    @FunctionalInterface
+    interface RowSink {
+        void accept(long id, long amountMinorUnits, String type, long accountId, LocalDateTime timestamp);
+    }
+
+    // One copy of the table. Deleted rows are tombstoned and squeezed out once they make up a quarter of the rows.
+    private static final class Columns {
+        private static final int MIN_COMPACT_ROWS = 1 << 12;
+
+        private final LongIntHashMap rowById;
+        private final List<String> typeDictionary = new ArrayList<>();
+        private long[] ids;
+        private long[] amounts;
+        private byte[] types;
+        private int[] accountIds;
+        private long[] timestamps;
+        private int size;
+        private int deleted;
+
+        private Columns(int capacity) {
+            rowById = new LongIntHashMap(capacity);
+            ids = new long[capacity];
+            amounts = new long[capacity];
+            types = new byte[capacity];
+            accountIds = new int[capacity];
+            timestamps = new long[capacity];
+        }
+
+        private void upsert(long id, long amountMinorUnits, String type, long accountId, long epochMillis) {
+            int i = rowById.get(id);
+            if (i == LongIntHashMap.MISSING) {
+                ensureCapacity(size + 1);
+                i = size++;
+                rowById.put(id, i);
+            }
+            ids[i] = id;
+            amounts[i] = amountMinorUnits;
+            types[i] = typeCode(type);
+            accountIds[i] = Math.toIntExact(accountId);
+            timestamps[i] = epochMillis;
+        }
+
+        private void delete(long id) {
+            int row = rowById.remove(id);
+            if (row == LongIntHashMap.MISSING) {
+                return;
+            }
+            types[row] = DELETED;
+            deleted++;
+            if (deleted >= MIN_COMPACT_ROWS && deleted * 4 >= size) {
+                compact();
+            }
+        }
+
+        // Moves live rows down over the tombstones, keeping their order, and repoints their ids
+        private void compact() {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                if (types[i] == DELETED) {
+                    continue;
+                }
+                if (i != live) {
+                    ids[live] = ids[i];
+                    amounts[live] = amounts[i];
+                    types[live] = types[i];
+                    accountIds[live] = accountIds[i];
+                    timestamps[live] = timestamps[i];
+                    rowById.put(ids[live], live);
+                }
+                live++;
+            }
+            size = live;
+            deleted = 0;
+        }
+
+        private byte typeCode(String type) {
+            int code = typeDictionary.indexOf(type);
+            if (code < 0) {
+                if (typeDictionary.size() == Byte.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct transaction types for the snapshot");
+                }
+                typeDictionary.add(type);
+                code = typeDictionary.size() - 1;
+            }
+            return (byte) code;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= ids.length) {
+                return;
+            }
+            int newLength = Math.max(capacity, Math.max(ids.length * 2, INITIAL_CAPACITY));
+            ids = Arrays.copyOf(ids, newLength);
+            amounts = Arrays.copyOf(amounts, newLength);
+            types = Arrays.copyOf(types, newLength);
+            accountIds = Arrays.copyOf(accountIds, newLength);
+            timestamps = Arrays.copyOf(timestamps, newLength);
+        }
+    }
+}
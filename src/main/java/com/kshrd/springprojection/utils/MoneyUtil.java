@@ -0,0 +1,29 @@
+package com.kshrd.springprojection.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Amounts are kept as long minor units (cents) on hot paths and converted to BigDecimal only at the API edge.
+public class MoneyUtil {
+
+    public static final int SCALE = 2;
+
+    // Throws ArithmeticException when the amount has more than SCALE decimal places
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    // Largest minor-unit value that is <= amount, so "minor > floor(threshold)" equals "amount > threshold"
+    public static long toMinorUnitsFloor(BigDecimal amount) {
+        return amount.movePointRight(SCALE).setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    // Smallest minor-unit value that is >= amount, so "minor >= ceiling(threshold)" equals "amount >= threshold"
+    public static long toMinorUnitsCeiling(BigDecimal amount) {
+        return amount.movePointRight(SCALE).setScale(0, RoundingMode.CEILING).longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
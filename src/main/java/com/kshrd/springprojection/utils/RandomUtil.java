@@ -1,11 +1,13 @@
 package com.kshrd.springprojection.utils;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomUtil {
+    private static final long ACCOUNT_NUMBER_BOUND = 1_000_000_000_000L;
+
+    // 12 digits keep a 1000-row batch collision-free in practice; the unique index catches the rest
     public String generateAccountNum() {
-        Random rnd = new Random();
-        int number = rnd.nextInt(99999);
-        return String.format("ACC%05d", number);
+        long number = ThreadLocalRandom.current().nextLong(ACCOUNT_NUMBER_BOUND);
+        return String.format("ACC%012d", number);
     }
 }
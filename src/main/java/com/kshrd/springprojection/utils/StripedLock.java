@@ -0,0 +1,47 @@
+package com.kshrd.springprojection.utils;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A fixed set of locks that keys are hashed onto. Two keys are always locked in stripe order,
+ * so callers locking overlapping pairs cannot deadlock; keys sharing a stripe lock it once.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLock(int stripeCount) {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLocks(long first, long second, Supplier<T> action) {
+        int a = stripe(first);
+        int b = stripe(second);
+        ReentrantLock lower = stripes[Math.min(a, b)];
+        ReentrantLock upper = stripes[Math.max(a, b)];
+
+        lower.lock();
+        try {
+            if (upper != lower) {
+                upper.lock();
+            }
+            try {
+                return action.get();
+            } finally {
+                if (upper != lower) {
+                    upper.unlock();
+                }
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+
+    private int stripe(long key) {
+        return Math.floorMod(Long.hashCode(key), stripes.length);
+    }
+}
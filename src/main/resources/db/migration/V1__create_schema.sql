@@ -0,0 +1,19 @@
+-- ==========================
+-- Accounts
+-- ==========================
+CREATE TABLE IF NOT EXISTS accounts (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_number VARCHAR(255),
+    holder_name    VARCHAR(255)
+);
+
+-- ==========================
+-- Transactions
+-- ==========================
+CREATE TABLE IF NOT EXISTS transactions (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    amount     NUMERIC(17, 2),
+    type       VARCHAR(255),
+    timestamp  TIMESTAMP(6),
+    account_id BIGINT REFERENCES accounts (id)
+);
@@ -0,0 +1,3 @@
+-- IF NOT EXISTS: databases created by the old ddl-auto + schema.sql setup may already have them
+CREATE INDEX IF NOT EXISTS idx_transactions_account_id ON transactions (account_id);
+CREATE INDEX IF NOT EXISTS idx_transactions_created_at ON transactions (timestamp);
@@ -0,0 +1,5 @@
+-- Trigram indexes serve both prefix and substring ILIKE searches on accounts
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_accounts_holder_name_trgm ON accounts USING gin (holder_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_accounts_account_number_trgm ON accounts USING gin (account_number gin_trgm_ops);
@@ -0,0 +1,2 @@
+-- Per-account time ranges (monthly statements) read in (account_id, timestamp) order straight from the index
+CREATE INDEX IF NOT EXISTS idx_transactions_account_timestamp ON transactions (account_id, timestamp);
@@ -0,0 +1,10 @@
+-- Account numbers used to be drawn from 100k values, so duplicates may already exist.
+-- All but the oldest holder of a duplicated number are renumbered from their id; generated
+-- numbers had 5 digits until now, so the 12-digit replacements cannot collide with them.
+UPDATE accounts a
+SET account_number = 'ACC' || LPAD(a.id::text, 12, '0')
+WHERE EXISTS (
+    SELECT 1 FROM accounts b WHERE b.account_number = a.account_number AND b.id < a.id
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_accounts_account_number ON accounts (account_number);
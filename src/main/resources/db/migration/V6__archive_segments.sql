@@ -0,0 +1,8 @@
+-- Archive segments committed together with the DELETE of their rows; only segments listed here are served
+CREATE TABLE IF NOT EXISTS archive_segments (
+    name          VARCHAR(100) PRIMARY KEY,
+    row_count     INTEGER      NOT NULL,
+    min_timestamp TIMESTAMP(6) NOT NULL,
+    max_timestamp TIMESTAMP(6) NOT NULL,
+    archived_at   TIMESTAMP(6) NOT NULL DEFAULT NOW()
+);
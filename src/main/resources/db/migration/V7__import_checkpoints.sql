@@ -0,0 +1,10 @@
+-- Byte ranges of CSV imports, inserted in the same transaction as the COPY that loaded them
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    file_name     VARCHAR(255) NOT NULL,
+    file_size     BIGINT       NOT NULL,
+    range_start   BIGINT       NOT NULL,
+    range_end     BIGINT       NOT NULL,
+    rows_imported INTEGER      NOT NULL,
+    imported_at   TIMESTAMP(6) NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (file_name, file_size, range_start)
+);
@@ -0,0 +1,23 @@
+-- Both legs of a transfer carry the same transfer_id
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS transfer_id UUID;
+
+-- Legs written before this column existed: pair debits and credits of the same amount and timestamp
+WITH debits AS (
+    SELECT id, amount, timestamp, ROW_NUMBER() OVER (PARTITION BY amount, timestamp ORDER BY id) AS n
+    FROM transactions
+    WHERE type = 'TRANSFER_OUT' AND transfer_id IS NULL
+), credits AS (
+    SELECT id, amount, timestamp, ROW_NUMBER() OVER (PARTITION BY amount, timestamp ORDER BY id) AS n
+    FROM transactions
+    WHERE type = 'TRANSFER_IN' AND transfer_id IS NULL
+), pairs AS MATERIALIZED (
+    SELECT d.id AS debit_id, c.id AS credit_id, gen_random_uuid() AS transfer_id
+    FROM debits d
+    JOIN credits c ON c.amount = d.amount AND c.timestamp = d.timestamp AND c.n = d.n
+)
+UPDATE transactions t
+SET transfer_id = p.transfer_id
+FROM pairs p
+WHERE t.id IN (p.debit_id, p.credit_id);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_transfer_id ON transactions (transfer_id) WHERE transfer_id IS NOT NULL;
@@ -1,3 +1,7 @@
+-- Demo data, only applied when classpath:db/seed is added to spring.flyway.locations.
+-- Repeatable, so Flyway runs it after all versioned migrations whenever the location is added,
+-- also on databases already past V1; the guards make a second run a no-op.
+
 -- ==========================
 -- Seed Accounts (100 accounts)
 -- ==========================
@@ -5,14 +9,20 @@ INSERT INTO accounts (account_number, holder_name)
 SELECT
     'ACC' || LPAD(gs::text, 5, '0') AS account_number,
     'User ' || gs AS holder_name
-FROM generate_series(1, 100) gs;
+FROM generate_series(1, 100) gs
+ON CONFLICT (account_number) DO NOTHING;
 
 -- ==========================
 -- Seed Transactions (1000 transactions)
 -- ==========================
+WITH seed_accounts AS (
+    SELECT array_agg(id ORDER BY id) AS ids
+    FROM accounts
+    WHERE account_number ~ '^ACC[0-9]{5}$'
+)
 INSERT INTO transactions (account_id, amount, type, timestamp)
 SELECT
-    (trunc(random() * 100) + 1)::int AS account_id,
+    s.ids[(trunc(random() * cardinality(s.ids)) + 1)::int] AS account_id,
     ROUND((random() * 5000 + 10)::numeric, 2) AS amount,
     CASE
         WHEN random() < 0.4 THEN 'DEPOSIT'
@@ -20,22 +30,6 @@ SELECT
         ELSE 'TRANSFER'
         END AS type,
     NOW() - (trunc(random() * 60) || ' DAY')::interval AS created_at
-FROM generate_series(1, 1000);
-
--- ==========================
--- Optional: Index for faster queries
--- ==========================
-CREATE INDEX idx_transactions_account_id ON transactions(account_id);
-CREATE INDEX idx_transactions_created_at ON transactions(timestamp);
-
-
-SELECT
-    column_name,
-    data_type,
-    character_maximum_length,
-    is_nullable,
-    column_default
-FROM
-    information_schema.columns
-WHERE
-    table_name = 'accounts';
+FROM seed_accounts s, generate_series(1, 1000)
+WHERE s.ids IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM transactions);
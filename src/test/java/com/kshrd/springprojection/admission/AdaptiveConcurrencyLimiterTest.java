@@ -0,0 +1,90 @@
+package com.kshrd.springprojection.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void rejectsOnceLimitIsInFlight() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(3, limiter.getInflight());
+    }
+
+    @Test
+    void growsWhileSaturatedAndLatencyStaysLow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, FAST);
+        }
+
+        assertEquals(200, limiter.getLimit());
+    }
+
+    @Test
+    void keepsLimitWhenMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void shrinksToMinimumWhenLatencyRisesUnderLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, FAST);
+        }
+
+        // Stays within the window that still remembers the fast baseline
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW);
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void acceptsSlowerBaselineAfterTwoWindows() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+        for (int i = 0; i < 10; i++) {
+            saturate(limiter, FAST);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            saturate(limiter, SLOW);
+        }
+
+        assertEquals(200, limiter.getLimit());
+    }
+
+    // Fills the limit, then completes every request with the same latency
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.kshrd.springprojection.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void clientsBeyondCapacityShareOverflowBucket() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, 0);
+        limiter.tryAcquire("a", 0);
+        limiter.tryAcquire("b", 0);
+
+        assertEquals(0, limiter.tryAcquire("c", 0));
+        assertTrue(limiter.tryAcquire("d", 0) > 0);
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void sweepsIdleClientsAtMostOncePerSecond() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 1, 2, 0);
+        limiter.tryAcquire("a", 0);
+        limiter.tryAcquire("b", 0);
+        limiter.tryAcquire("c", 0);
+
+        // a and b are idle again, but the sweep triggered by c at time 0 is too recent
+        limiter.tryAcquire("d", SECOND / 2);
+        assertEquals(2, limiter.size());
+
+        assertEquals(0, limiter.tryAcquire("e", SECOND));
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void forwardedForIsOnlyTrustedFromConfiguredProxies() {
+        ClientKeyResolver resolver = new ClientKeyResolver(Set.of("10.0.0.1", "10.0.0.2"));
+
+        assertEquals("ip:203.0.113.9", resolver.resolve("203.0.113.9", "1.2.3.4"));
+        assertEquals("ip:198.51.100.7", resolver.resolve("10.0.0.1", "1.2.3.4, 198.51.100.7, 10.0.0.2"));
+        assertEquals("ip:10.0.0.1", resolver.resolve("10.0.0.1", "10.0.0.2"));
+        assertEquals("ip:10.0.0.1", resolver.resolve("10.0.0.1", null));
+    }
+}
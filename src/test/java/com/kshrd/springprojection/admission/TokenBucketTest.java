@@ -0,0 +1,74 @@
+package com.kshrd.springprojection.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void admitsBurstThenReportsWaitForNextPermit() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(0));
+        }
+        assertEquals(INTERVAL, bucket.tryAcquire(0));
+    }
+
+    @Test
+    void refillsOnePermitPerInterval() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        assertTrue(bucket.tryAcquire(INTERVAL - 1) > 0);
+        assertEquals(0, bucket.tryAcquire(INTERVAL));
+        assertTrue(bucket.tryAcquire(INTERVAL) > 0);
+    }
+
+    @Test
+    void becomesIdleOnceFullAgain() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertFalse(bucket.isIdle(INTERVAL));
+        assertTrue(bucket.isIdle(2 * INTERVAL));
+    }
+
+    @Test
+    void concurrentCallersNeverExceedBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(10, 50, 0);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(50, admitted.get());
+    }
+}
@@ -0,0 +1,91 @@
+package com.kshrd.springprojection.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentFileTest {
+
+    private static final long STEP_MILLIS = 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsRowsAcrossBlocks() throws IOException {
+        List<ArchivedTransaction> rows = rows(SegmentFile.BLOCK_ROWS * 2 + 500);
+        Path file = directory.resolve("segment.seg");
+
+        SegmentFile.write(file, rows);
+        SegmentFile segment = SegmentFile.open(file);
+
+        assertEquals(rows.size(), segment.rowCount());
+        assertEquals(rows.getFirst().epochMillis(), segment.minMillis());
+        assertEquals(rows.getLast().epochMillis(), segment.maxMillis());
+        assertEquals(rows, scan(segment, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertFalse(Files.exists(directory.resolve("segment.seg.tmp")));
+    }
+
+    @Test
+    void scanVisitsOnlyHalfOpenRange() throws IOException {
+        List<ArchivedTransaction> rows = rows(SegmentFile.BLOCK_ROWS * 3);
+        Path file = directory.resolve("segment.seg");
+        SegmentFile.write(file, rows);
+        SegmentFile segment = SegmentFile.open(file);
+
+        // Bounds inside the first block and exactly on the start of the third
+        long from = rows.get(100).epochMillis();
+        long to = rows.get(SegmentFile.BLOCK_ROWS * 2).epochMillis();
+
+        assertEquals(rows.subList(100, SegmentFile.BLOCK_ROWS * 2), scan(segment, from, to));
+        assertEquals(List.of(rows.getLast()), scan(segment, rows.getLast().epochMillis(), Long.MAX_VALUE));
+    }
+
+    @Test
+    void scanOutsideSegmentVisitsNothing() throws IOException {
+        List<ArchivedTransaction> rows = rows(10);
+        Path file = directory.resolve("segment.seg");
+        SegmentFile.write(file, rows);
+        SegmentFile segment = SegmentFile.open(file);
+
+        assertTrue(scan(segment, Long.MIN_VALUE, rows.getFirst().epochMillis()).isEmpty());
+        assertTrue(scan(segment, rows.getLast().epochMillis() + 1, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path file = directory.resolve("segment.seg");
+        SegmentFile.write(file, rows(100));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        assertThrows(IllegalStateException.class, () -> SegmentFile.open(file));
+    }
+
+    private static List<ArchivedTransaction> rows(int count) {
+        List<ArchivedTransaction> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new ArchivedTransaction(i + 1, i % 7, 1_000 + i, i % 2 == 0 ? "DEPOSIT" : "WITHDRAWAL", i * STEP_MILLIS));
+        }
+        return rows;
+    }
+
+    private static List<ArchivedTransaction> scan(SegmentFile segment, long fromMillis, long toMillis) {
+        List<ArchivedTransaction> visited = new ArrayList<>();
+        segment.scan(fromMillis, toMillis, visited::add);
+        return visited;
+    }
+}
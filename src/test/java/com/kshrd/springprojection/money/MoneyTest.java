@@ -0,0 +1,126 @@
+package com.kshrd.springprojection.money;
+
+import com.kshrd.springprojection.utils.MoneyUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    private static final long[] SAMPLES = {
+            0, 1, -1, 5, -5, 9, 10, -10, 99, -99, 100, -100, 101, -101, 12_550, -12_550,
+            999_999_999_999_999L, -999_999_999_999_999L, Long.MAX_VALUE, Long.MIN_VALUE,
+            Long.MAX_VALUE - 1, Long.MIN_VALUE + 1
+    };
+
+    @Test
+    void formatsWithTwoDecimals() {
+        assertEquals("0.00", Money.ZERO.toString());
+        assertEquals("125.50", Money.ofMinorUnits(12_550).toString());
+        assertEquals("-125.50", Money.ofMinorUnits(-12_550).toString());
+    }
+
+    @Test
+    void formatsValuesBelowOne() {
+        assertEquals("0.05", Money.ofMinorUnits(5).toString());
+        assertEquals("-0.05", Money.ofMinorUnits(-5).toString());
+        assertEquals("0.99", Money.ofMinorUnits(99).toString());
+        assertEquals("-0.10", Money.ofMinorUnits(-10).toString());
+    }
+
+    @Test
+    void formatsLongBoundaries() {
+        assertEquals("92233720368547758.07", Money.ofMinorUnits(Long.MAX_VALUE).toString());
+        assertEquals("-92233720368547758.08", Money.ofMinorUnits(Long.MIN_VALUE).toString());
+    }
+
+    @Test
+    void formatsLikeBigDecimalPlainString() {
+        for (long minorUnits : SAMPLES) {
+            String expected = BigDecimal.valueOf(minorUnits, 2).toPlainString();
+            assertEquals(expected, Money.ofMinorUnits(minorUnits).toString());
+        }
+    }
+
+    @Test
+    void formatWritesRightAlignedIntoBuffer() {
+        char[] text = new char[Money.MAX_CHARS];
+
+        int start = Money.ofMinorUnits(-12_550).format(text);
+
+        assertEquals("-125.50", new String(text, start, Money.MAX_CHARS - start));
+        assertEquals(0, Money.ofMinorUnits(Long.MIN_VALUE).format(text));
+    }
+
+    @Test
+    void roundTripsThroughBigDecimal() {
+        for (long minorUnits : SAMPLES) {
+            Money money = Money.ofMinorUnits(minorUnits);
+            BigDecimal amount = money.toBigDecimal();
+
+            assertEquals(2, amount.scale());
+            assertEquals(money, Money.of(amount));
+            assertEquals(minorUnits, MoneyUtil.toMinorUnits(amount));
+            assertEquals(amount, MoneyUtil.fromMinorUnits(minorUnits));
+        }
+    }
+
+    @Test
+    void convertsAmountsWithFewerDecimals() {
+        assertEquals(12_500, MoneyUtil.toMinorUnits(new BigDecimal("125")));
+        assertEquals(12_550, MoneyUtil.toMinorUnits(new BigDecimal("125.5")));
+        assertEquals(-5, MoneyUtil.toMinorUnits(new BigDecimal("-0.05")));
+        assertEquals(10_000, MoneyUtil.toMinorUnits(new BigDecimal("1E+2")));
+    }
+
+    @Test
+    void rejectsMoreThanTwoDecimals() {
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1.005")));
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.toMinorUnits(new BigDecimal("-0.001")));
+    }
+
+    @Test
+    void rejectsAmountsBeyondLongMinorUnits() {
+        BigDecimal max = MoneyUtil.fromMinorUnits(Long.MAX_VALUE);
+        BigDecimal min = MoneyUtil.fromMinorUnits(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.toMinorUnits(max.add(new BigDecimal("0.01"))));
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.toMinorUnits(min.subtract(new BigDecimal("0.01"))));
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.toMinorUnitsFloor(new BigDecimal("1E17")));
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.toMinorUnitsCeiling(new BigDecimal("-1E17")));
+    }
+
+    @Test
+    void roundsThresholdsOutward() {
+        assertEquals(100, MoneyUtil.toMinorUnitsFloor(new BigDecimal("1.009")));
+        assertEquals(101, MoneyUtil.toMinorUnitsCeiling(new BigDecimal("1.001")));
+        assertEquals(-101, MoneyUtil.toMinorUnitsFloor(new BigDecimal("-1.001")));
+        assertEquals(-100, MoneyUtil.toMinorUnitsCeiling(new BigDecimal("-1.009")));
+        assertEquals(100, MoneyUtil.toMinorUnitsFloor(new BigDecimal("1.00")));
+        assertEquals(100, MoneyUtil.toMinorUnitsCeiling(new BigDecimal("1.00")));
+    }
+
+    @Test
+    void plusFailsOnOverflow() {
+        assertEquals(Money.ofMinorUnits(-1), Money.ofMinorUnits(Long.MAX_VALUE).plus(Money.ofMinorUnits(Long.MIN_VALUE)));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinorUnits(Long.MAX_VALUE).plus(Money.ofMinorUnits(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinorUnits(Long.MIN_VALUE).plus(Money.ofMinorUnits(-1)));
+    }
+
+    @Test
+    void comparesByMinorUnits() {
+        Money small = Money.ofMinorUnits(-1);
+        Money large = Money.ofMinorUnits(1);
+
+        assertTrue(large.isGreaterThan(small));
+        assertFalse(small.isGreaterThan(large));
+        assertFalse(large.isGreaterThan(large));
+        assertTrue(small.compareTo(large) < 0);
+        assertEquals(0, Money.ofMinorUnits(Long.MIN_VALUE).compareTo(Money.ofMinorUnits(Long.MIN_VALUE)));
+    }
+}
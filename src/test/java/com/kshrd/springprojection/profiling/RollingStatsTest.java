@@ -0,0 +1,67 @@
+package com.kshrd.springprojection.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RollingStatsTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    @Test
+    void bucketsBoundEveryValueWithinAQuarter() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            long nanos = random.nextLong(1, 1L << 39);
+            int bucket = LatencyHistogram.bucketOf(nanos);
+            long upper = LatencyHistogram.upperBoundNanos(bucket);
+            long lower = bucket == 0 ? 0 : LatencyHistogram.upperBoundNanos(bucket - 1);
+
+            assertTrue(nanos / 1_000 * 1_000 >= lower && nanos < upper, "bucket " + bucket + " for " + nanos);
+            assertTrue(bucket < 16 || upper - lower <= lower / 4, "bucket " + bucket + " too wide");
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void reportsP99FromTheSlowTail() {
+        RollingStats stats = new RollingStats(60);
+        for (int i = 0; i < 980; i++) {
+            stats.record("repository", "/api", "find", Duration.ofMillis(1), 1, NOW);
+        }
+        for (int i = 0; i < 20; i++) {
+            stats.record("repository", "/api", "find", Duration.ofMillis(100), 1, NOW - 30);
+        }
+
+        RollingStats.OperationStats operation = only(stats.snapshot(NOW));
+
+        assertEquals(1_000, operation.count());
+        // Capped by the slowest call, since its bucket reaches past 100 ms
+        assertEquals(100.0, operation.p99Millis());
+        assertEquals(100.0, operation.maxMillis());
+    }
+
+    @Test
+    void p99IgnoresSlotsThatLeftTheWindow() {
+        RollingStats stats = new RollingStats(60);
+        for (int i = 0; i < 100; i++) {
+            stats.record("repository", "/api", "find", Duration.ofMillis(100), 1, NOW - 61);
+            stats.record("repository", "/api", "find", Duration.ofMillis(1), 1, NOW);
+        }
+
+        RollingStats.OperationStats operation = only(stats.snapshot(NOW));
+
+        assertEquals(100, operation.count());
+        assertTrue(operation.p99Millis() >= 1.0 && operation.p99Millis() <= 1.25, "p99 " + operation.p99Millis());
+    }
+
+    private static RollingStats.OperationStats only(List<RollingStats.OperationStats> snapshot) {
+        assertEquals(1, snapshot.size());
+        return snapshot.getFirst();
+    }
+}
@@ -0,0 +1,121 @@
+package com.kshrd.springprojection.service.implementation;
+
+import com.kshrd.springprojection.service.implementation.StatementServiceImpl.AccountRow;
+import com.kshrd.springprojection.service.implementation.StatementServiceImpl.PartitionWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatementServiceImplTest {
+
+    private static final String HEADER = "account_id,account_number,opening_balance,"
+            + "withdrawal_count,withdrawal_total,deposit_count,deposit_total,transfer_count,transfer_total,"
+            + "transfer_out_count,transfer_out_total,transfer_in_count,transfer_in_total,closing_balance";
+
+    private static final List<AccountRow> ACCOUNTS = List.of(
+            new AccountRow(1, "ACC1"),
+            new AccountRow(3, "ACC3"),
+            new AccountRow(5, "ACC5"),
+            new AccountRow(7, "ACC7")
+    );
+
+    private final StringWriter text = new StringWriter();
+    private final BufferedWriter out = new BufferedWriter(text);
+
+    @Test
+    void writesOneLinePerAccountWithSignedClosingBalance() throws IOException {
+        PartitionWriter writer = writer(Map.of(1L, 10_000L, 5L, -500L), Map.of(1L, 2_500L, 7L, 100L));
+
+        writer.add(0, "DEPOSIT", 1);
+        writer.add(1, "DEPOSIT", 5_000);
+        writer.add(1, "WITHDRAWAL", 2_000);
+        writer.add(1, "TRANSFER_OUT", 1_000);
+        writer.add(1, "TRANSFER", 700);
+        writer.add(2, "DEPOSIT", 9_999);
+        writer.add(5, "TRANSFER_IN", 300);
+        writer.add(5, "BONUS", 50);
+        writer.add(6, "DEPOSIT", 1);
+        writer.add(9, "DEPOSIT", 1);
+        writer.finish();
+
+        assertEquals(List.of(
+                HEADER,
+                // 100.00 + 25.00 archived, then -20.00 + 50.00 - 10.00; legacy TRANSFER does not move it
+                "1,ACC1,125.00,1,20.00,1,50.00,1,7.00,1,10.00,0,0.00,145.00",
+                "3,ACC3,0.00,0,0.00,0,0.00,0,0.00,0,0.00,0,0.00,0.00",
+                "5,ACC5,-5.00,0,0.00,0,0.00,0,0.00,0,0.00,1,3.00,-2.00",
+                "7,ACC7,1.00,0,0.00,0,0.00,0,0.00,0,0.00,0,0.00,1.00"
+        ), lines());
+        // Rows of unlisted accounts are skipped; unknown types still count as the account's rows
+        assertEquals(6, writer.rows);
+    }
+
+    @Test
+    void writesAccountsWithoutActivity() throws IOException {
+        PartitionWriter writer = writer(Map.of(3L, 42L), Map.of());
+
+        writer.finish();
+
+        List<String> lines = lines();
+        assertEquals(5, lines.size());
+        assertEquals("3,ACC3,0.42,0,0.00,0,0.00,0,0.00,0,0.00,0,0.00,0.42", lines.get(2));
+        assertEquals(0, writer.rows);
+    }
+
+    @Test
+    void resetsTotalsBetweenAccounts() throws IOException {
+        PartitionWriter writer = writer(Map.of(), Map.of());
+
+        writer.add(1, "DEPOSIT", 100);
+        writer.add(7, "DEPOSIT", 200);
+        writer.finish();
+
+        List<String> lines = lines();
+        assertEquals("1,ACC1,0.00,0,0.00,1,1.00,0,0.00,0,0.00,0,0.00,1.00", lines.get(1));
+        assertEquals("3,ACC3,0.00,0,0.00,0,0.00,0,0.00,0,0.00,0,0.00,0.00", lines.get(2));
+        assertEquals("7,ACC7,0.00,0,0.00,1,2.00,0,0.00,0,0.00,0,0.00,2.00", lines.get(4));
+    }
+
+    @Test
+    void partitionsUnevenSizesIntoContiguousRanges() {
+        assertPartitions(10, 4, 3, 3, 3, 1);
+        assertPartitions(10, 3, 4, 4, 2);
+        assertPartitions(9, 4, 3, 3, 3);
+        assertPartitions(2, 8, 1, 1);
+        assertPartitions(5, 1, 5);
+        assertTrue(StatementServiceImpl.partition(List.of(), 4).isEmpty());
+    }
+
+    private static void assertPartitions(int accountCount, int count, int... expectedSizes) {
+        List<AccountRow> accounts = LongStream.rangeClosed(1, accountCount)
+                .mapToObj(id -> new AccountRow(id, "ACC" + id))
+                .toList();
+
+        List<List<AccountRow>> partitions = StatementServiceImpl.partition(accounts, count);
+
+        assertEquals(expectedSizes.length, partitions.size());
+        assertTrue(partitions.size() <= count, "more partitions than requested");
+        for (int i = 0; i < expectedSizes.length; i++) {
+            assertEquals(expectedSizes[i], partitions.get(i).size());
+        }
+        // Concatenated in order, the ranges are the original list
+        assertEquals(accounts, partitions.stream().flatMap(List::stream).toList());
+    }
+
+    private PartitionWriter writer(Map<Long, Long> opening, Map<Long, Long> archivedOpening) throws IOException {
+        return new PartitionWriter(out, ACCOUNTS, opening, archivedOpening);
+    }
+
+    private List<String> lines() throws IOException {
+        out.flush();
+        return text.toString().lines().toList();
+    }
+}
@@ -0,0 +1,135 @@
+package com.kshrd.springprojection.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIntHashMapTest {
+
+    @Test
+    void putsOverwritesAndReportsMissingKeys() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        map.put(7, 1);
+        map.put(7, 2);
+
+        assertEquals(2, map.get(7));
+        assertEquals(LongIntHashMap.MISSING, map.get(8));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void findsEveryKeyOfACollidingRun() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        List<Long> keys = keysWithHome(map, 3, 6);
+
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), i);
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, map.get(keys.get(i)));
+        }
+        assertEquals(keys.size(), map.size());
+    }
+
+    @Test
+    void removesFromTheMiddleOfAProbeChain() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        List<Long> colliding = keysWithHome(map, 5, 4);
+        // Homed one slot later, so it sits behind the colliding run and must be shifted back too
+        long neighbour = keysWithHome(map, 6, 1).get(0);
+        for (int i = 0; i < colliding.size(); i++) {
+            map.put(colliding.get(i), i);
+        }
+        map.put(neighbour, 99);
+
+        assertEquals(1, map.remove(colliding.get(1)));
+
+        assertEquals(LongIntHashMap.MISSING, map.get(colliding.get(1)));
+        assertEquals(0, map.get(colliding.get(0)));
+        assertEquals(2, map.get(colliding.get(2)));
+        assertEquals(3, map.get(colliding.get(3)));
+        assertEquals(99, map.get(neighbour));
+        assertEquals(4, map.size());
+        assertEquals(LongIntHashMap.MISSING, map.remove(colliding.get(1)));
+    }
+
+    @Test
+    void removesFromAChainThatWrapsAroundTheTable() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        // 16 slots: a run homed at the last slot continues at slot 0
+        List<Long> keys = keysWithHome(map, 15, 4);
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), i);
+        }
+
+        map.remove(keys.get(0));
+        map.remove(keys.get(2));
+
+        assertEquals(LongIntHashMap.MISSING, map.get(keys.get(0)));
+        assertEquals(1, map.get(keys.get(1)));
+        assertEquals(LongIntHashMap.MISSING, map.get(keys.get(2)));
+        assertEquals(3, map.get(keys.get(3)));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void growsPastTheLoadFactor() {
+        LongIntHashMap map = new LongIntHashMap(1);
+
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i * 31L, i);
+        }
+        for (int i = 0; i < 100_000; i += 2) {
+            map.remove(i * 31L);
+        }
+
+        assertEquals(50_000, map.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i % 2 == 0 ? LongIntHashMap.MISSING : i, map.get(i * 31L));
+        }
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // A small key range keeps probe runs long and removals frequent
+        for (int op = 0; op < 200_000; op++) {
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashMap.MISSING : removed, map.remove(key));
+            } else {
+                int value = random.nextInt(Integer.MAX_VALUE);
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.get(key));
+        }
+    }
+
+    // Keys whose home slot in the map's current table is the given one
+    private static List<Long> keysWithHome(LongIntHashMap map, int home, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 1; keys.size() < count; key++) {
+            if (map.slot(key) == home) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
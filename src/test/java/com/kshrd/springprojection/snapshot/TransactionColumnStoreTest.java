@@ -0,0 +1,182 @@
+package com.kshrd.springprojection.snapshot;
+
+import com.kshrd.springprojection.dto.projection.TransactionSummary;
+import com.kshrd.springprojection.dto.projection.TypeTotalDto;
+import com.kshrd.springprojection.enumeration.ChangeType;
+import com.kshrd.springprojection.event.TransactionChangedEvent;
+import com.kshrd.springprojection.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionColumnStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String[] TYPES = {"DEPOSIT", "WITHDRAWAL", "TRANSFER_OUT", "TRANSFER_IN"};
+    private static final int ROWS = 20_000;
+    private static final int WINDOW_MINUTES = 30 * 24 * 60;
+
+    private final Random random = new Random(7);
+    // The table as the database would hold it, the reference for every check
+    private final Map<Long, TransactionChangedEvent> table = new TreeMap<>();
+    private long nextId = 1;
+
+    @Test
+    void staysDisabledWithoutReading() {
+        TransactionColumnStore store = new TransactionColumnStore(false, sink -> {
+            throw new AssertionError("disabled store must not read the table");
+        });
+
+        store.reload();
+
+        assertFalse(store.isReady());
+    }
+
+    @Test
+    void matchesTheTableAfterLoadReplayAndCompaction() throws InterruptedException {
+        for (int i = 0; i < ROWS; i++) {
+            insert();
+        }
+        List<TransactionChangedEvent> rowsAtReadStart = List.copyOf(table.values());
+        CountDownLatch halfRead = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        TransactionColumnStore store = new TransactionColumnStore(true, sink -> {
+            for (int i = 0; i < rowsAtReadStart.size(); i++) {
+                if (i == rowsAtReadStart.size() / 2) {
+                    halfRead.countDown();
+                    awaitUninterruptibly(resume);
+                }
+                TransactionChangedEvent row = rowsAtReadStart.get(i);
+                sink.accept(row.id(), row.amount().minorUnits(), row.type(), row.accountId(), row.timestamp());
+            }
+        });
+
+        store.reload();
+        assertTrue(halfRead.await(10, TimeUnit.SECONDS), "load did not start");
+
+        // Writes that commit while the table is being read, on rows before and after the read position
+        for (int i = 0; i < 3_000; i++) {
+            store.onTransactionChanged(randomChange());
+        }
+        assertFalse(store.isReady());
+        resume.countDown();
+        awaitReady(store);
+        assertMatchesTable(store);
+
+        // About half the rows deleted, well past the quarter that triggers compaction
+        for (long id : List.copyOf(table.keySet())) {
+            if (random.nextBoolean()) {
+                store.onTransactionChanged(delete(id));
+            }
+        }
+        assertMatchesTable(store);
+
+        // Rows moved by the compaction must still be found by id
+        for (int i = 0; i < 5_000; i++) {
+            store.onTransactionChanged(randomChange());
+        }
+        assertMatchesTable(store);
+    }
+
+    private void assertMatchesTable(TransactionColumnStore store) {
+        assertEquals(naiveTotals(BASE, BASE.plusMinutes(WINDOW_MINUTES)), store.totalsByType(BASE, BASE.plusMinutes(WINDOW_MINUTES)));
+        assertEquals(naiveTotals(BASE.plusDays(3), BASE.plusDays(11)), store.totalsByType(BASE.plusDays(3), BASE.plusDays(11)));
+
+        Money threshold = Money.ofMinorUnits(500_000);
+        List<String> expected = table.values().stream()
+                .filter(row -> row.amount().isGreaterThan(threshold))
+                .map(row -> row.id() + ":" + row.amount() + ":" + row.type())
+                .toList();
+        List<String> actual = store.findByAmountGreaterThan(threshold).stream()
+                .sorted(Comparator.comparing(TransactionSummary::getId))
+                .map(row -> row.getId() + ":" + row.getAmount() + ":" + row.getType())
+                .toList();
+        assertEquals(expected, actual);
+    }
+
+    // Per-type count and sum recomputed from scratch over the reference table
+    private List<TypeTotalDto> naiveTotals(LocalDateTime from, LocalDateTime to) {
+        Map<String, long[]> totals = new TreeMap<>();
+        for (TransactionChangedEvent row : table.values()) {
+            if (!row.timestamp().isBefore(from) && row.timestamp().isBefore(to)) {
+                long[] total = totals.computeIfAbsent(row.type(), type -> new long[2]);
+                total[0]++;
+                total[1] += row.amount().minorUnits();
+            }
+        }
+        List<TypeTotalDto> result = new ArrayList<>();
+        totals.forEach((type, total) -> result.add(new TypeTotalDto(type, total[0], Money.ofMinorUnits(total[1]))));
+        return result;
+    }
+
+    private TransactionChangedEvent randomChange() {
+        return switch (random.nextInt(3)) {
+            case 0 -> insert();
+            case 1 -> {
+                long id = randomId();
+                yield table.containsKey(id) ? update(id) : insert();
+            }
+            default -> delete(randomId());
+        };
+    }
+
+    private TransactionChangedEvent insert() {
+        return put(ChangeType.CREATED, nextId++);
+    }
+
+    private TransactionChangedEvent update(long id) {
+        return put(ChangeType.UPDATED, id);
+    }
+
+    private TransactionChangedEvent put(ChangeType change, long id) {
+        TransactionChangedEvent row = new TransactionChangedEvent(
+                change,
+                id,
+                Money.ofMinorUnits(random.nextInt(1_000_000) - 100_000),
+                TYPES[random.nextInt(TYPES.length)],
+                1L + random.nextInt(50),
+                BASE.plusMinutes(random.nextInt(WINDOW_MINUTES))
+        );
+        table.put(id, row);
+        return row;
+    }
+
+    private TransactionChangedEvent delete(long id) {
+        table.remove(id);
+        return TransactionChangedEvent.deleted(id);
+    }
+
+    // May pick a deleted id; deleting it again must be ignored by the store
+    private long randomId() {
+        return 1 + random.nextLong(nextId - 1);
+    }
+
+    private static void awaitReady(TransactionColumnStore store) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!store.isReady()) {
+            assertTrue(System.nanoTime() < deadline, "snapshot did not become ready");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.kshrd.springprojection.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedLockTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 10_000;
+
+    @Test
+    void returnsActionResult() {
+        StripedLock locks = new StripedLock(16);
+
+        assertEquals("done", locks.withLocks(1, 2, () -> "done"));
+    }
+
+    @Test
+    void locksSharedStripeOnce() throws InterruptedException {
+        StripedLock locks = new StripedLock(4);
+
+        // Equal keys and keys 4 apart map to one stripe; locking it twice would still be reentrant,
+        // so check from another thread that it is free again afterwards
+        locks.withLocks(3, 3, () -> null);
+        locks.withLocks(1, 5, () -> null);
+        Thread other = Thread.ofPlatform().start(() -> locks.withLocks(1, 5, () -> null));
+        other.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertFalse(other.isAlive(), "stripe left locked");
+    }
+
+    @Test
+    void releasesLocksWhenActionThrows() throws InterruptedException {
+        StripedLock locks = new StripedLock(16);
+
+        assertThrows(IllegalStateException.class, () -> locks.withLocks(1, 2, () -> {
+            throw new IllegalStateException();
+        }));
+        Thread other = Thread.ofPlatform().start(() -> locks.withLocks(2, 1, () -> null));
+        other.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertFalse(other.isAlive(), "locks left held after exception");
+    }
+
+    @Test
+    void excludesCallersSharingAKey() throws InterruptedException {
+        StripedLock locks = new StripedLock(16);
+        int[] counter = {0};
+
+        // Every pair contains key 2, so unguarded increments would be lost
+        runConcurrently(thread -> {
+            long other = thread % 2 == 0 ? 1 : 3;
+            for (int i = 0; i < ROUNDS; i++) {
+                locks.withLocks(other, 2, () -> increment(counter));
+            }
+        });
+
+        assertEquals(THREADS * ROUNDS, counter[0]);
+    }
+
+    @Test
+    void oppositeOrderPairsDoNotDeadlock() throws InterruptedException {
+        StripedLock locks = new StripedLock(16);
+        int[] counter = {0};
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                if (thread % 2 == 0) {
+                    locks.withLocks(1, 2, () -> increment(counter));
+                } else {
+                    locks.withLocks(2, 1, () -> increment(counter));
+                }
+            }
+        });
+
+        assertEquals(THREADS * ROUNDS, counter[0]);
+    }
+
+    // Yields between read and write so an unguarded increment is almost certainly lost
+    private static int increment(int[] counter) {
+        int seen = counter[0];
+        Thread.yield();
+        counter[0] = seen + 1;
+        return seen;
+    }
+
+    private static void runConcurrently(ThreadBody body) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    body.run(thread);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS), "threads did not finish, possible deadlock");
+    }
+
+    private interface ThreadBody {
+        void run(int thread);
+    }
+}